@@ -0,0 +1,57 @@
+package com.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded store of the last successful response per key, served (flagged stale) when the
+ * database cannot be reached. Unlike the read caches it is never invalidated by writes, so a
+ * degraded read may show content that has since changed. Stale responses served are counted
+ * as "stale.responses" (tag name).
+ *
+ * @param <K> the request key
+ * @param <V> the response
+ */
+public class LastKnownGood<K, V> {
+
+  // Null when serving stale responses is disabled
+  private final Cache<K, V> responses;
+  private final Counter served;
+
+  public LastKnownGood(String name, int maxEntries, MeterRegistry meterRegistry) {
+    this.responses = maxEntries > 0 ? Caffeine.newBuilder().maximumSize(maxEntries).build() : null;
+    this.served =
+        Counter.builder("stale.responses")
+            .description("Last known good responses served while the database was unavailable")
+            .tag("name", name)
+            .register(meterRegistry);
+  }
+
+  /**
+   * Remembers a freshly loaded response.
+   *
+   * @return the response, for chaining
+   */
+  public V remember(K key, V response) {
+    if (responses != null && response != null) {
+      responses.put(key, response);
+    }
+    return response;
+  }
+
+  /**
+   * Returns the last good response for the key, or rethrows the failure when there is none.
+   *
+   * @param failure why a fresh response could not be loaded
+   */
+  public V recover(K key, RuntimeException failure) {
+    V response = responses == null ? null : responses.getIfPresent(key);
+    if (response == null) {
+      throw failure;
+    }
+    served.increment();
+    return response;
+  }
+}
@@ -0,0 +1,118 @@
+package com.api.cache;
+
+import com.api.config.PhotoProperties;
+import com.api.dto.response.Photo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-memory cache of single photos keyed by imageID.
+ * Missing photos are not cached, so a photo saved later is visible immediately.
+ * Hit, miss and eviction counters are published as the "photos.item" cache metrics.
+ */
+@Component
+public class PhotoItemCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(PhotoItemCache.class);
+
+  private final Cache<String, Photo> cache;
+  // Bumped on invalidation so loads started before a write never cache their stale photo
+  private final AtomicLong generation = new AtomicLong();
+
+  public PhotoItemCache(PhotoProperties photoProperties, MeterRegistry meterRegistry) {
+    PhotoProperties.CacheSettings config = photoProperties.getItemCache();
+    if (!config.isEnabled() || config.getMaxEntries() <= 0) {
+      logger.info("Photo item cache disabled");
+      this.cache = null;
+      return;
+    }
+
+    logger.info("Photo item cache enabled: maxEntries={}, ttl={}", config.getMaxEntries(), config.getTtl());
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(config.getMaxEntries())
+            .expireAfterWrite(config.getTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "photos.item");
+  }
+
+  /**
+   * Returns the cached photo, loading it on a miss. Concurrent misses are not coalesced here;
+   * callers put a {@link SingleFlight} in the loader.
+   *
+   * @param imageId the photo identifier
+   * @param loader reads the photo from DynamoDB, returning null when it does not exist
+   * @return the photo, or null when not found
+   */
+  public Photo get(String imageId, Function<String, Photo> loader) {
+    if (cache == null) {
+      return loader.apply(imageId);
+    }
+    Photo cached = cache.getIfPresent(imageId);
+    if (cached != null) {
+      return cached;
+    }
+    long startedAt = generation.get();
+    Photo photo = loader.apply(imageId);
+    putIfCurrent(imageId, photo, startedAt);
+    return photo;
+  }
+
+  /**
+   * Async variant of {@link #get}: returns the cached photo, or starts the load and caches a
+   * found photo once it completes.
+   *
+   * @param imageId the photo identifier
+   * @param loader starts reading the photo from DynamoDB, completing with null when it does not exist
+   * @return a future of the photo, completing with null when not found
+   */
+  public CompletableFuture<Photo> getAsync(String imageId, Function<String, CompletableFuture<Photo>> loader) {
+    if (cache == null) {
+      return loader.apply(imageId);
+    }
+    Photo cached = cache.getIfPresent(imageId);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    long startedAt = generation.get();
+    return loader.apply(imageId).thenApply(photo -> {
+      putIfCurrent(imageId, photo, startedAt);
+      return photo;
+    });
+  }
+
+  /**
+   * Caches a found photo unless an invalidation happened since the load started. The check is
+   * repeated after the put, since an invalidation may land between the two.
+   */
+  private void putIfCurrent(String imageId, Photo photo, long startedAt) {
+    if (photo == null || generation.get() != startedAt) {
+      return;
+    }
+    cache.put(imageId, photo);
+    if (generation.get() != startedAt) {
+      cache.invalidate(imageId);
+    }
+  }
+
+  /**
+   * Evicts a single photo after it was updated or deleted.
+   *
+   * @param imageId the photo identifier
+   */
+  public void invalidate(String imageId) {
+    if (cache != null) {
+      generation.incrementAndGet();
+      cache.invalidate(imageId);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.api.cache;
+
+import com.api.config.PhotoProperties;
+import com.api.dto.response.PhotoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-memory cache of gallery pages keyed by (lastKey, pageSize).
+ * Entries expire after a TTL and are dropped wholesale whenever photo metadata changes.
+ * Hit, miss and eviction counters are published as the "photos.page" cache metrics.
+ */
+@Component
+public class PhotoPageCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(PhotoPageCache.class);
+
+  private record PageKey(String lastKey, int pageSize) {}
+
+  private final Cache<PageKey, PhotoResponse> cache;
+  // Bumped on invalidation so loads started before a write never cache their stale page
+  private final AtomicLong generation = new AtomicLong();
+
+  public PhotoPageCache(PhotoProperties photoProperties, MeterRegistry meterRegistry) {
+    PhotoProperties.CacheSettings config = photoProperties.getPageCache();
+    if (!config.isEnabled() || config.getMaxEntries() <= 0) {
+      logger.info("Gallery page cache disabled");
+      this.cache = null;
+      return;
+    }
+
+    logger.info("Gallery page cache enabled: maxEntries={}, ttl={}", config.getMaxEntries(), config.getTtl());
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(config.getMaxEntries())
+            .expireAfterWrite(config.getTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "photos.page");
+  }
+
+  /**
+   * Returns the cached page, loading and caching it on a miss. Concurrent misses are not
+   * coalesced here; callers put a {@link SingleFlight} in the loader.
+   *
+   * @param lastKey the pagination cursor (null or empty for the first page)
+   * @param pageSize the validated page size
+   * @param loader reads the page from DynamoDB
+   * @return the gallery page
+   */
+  public PhotoResponse get(String lastKey, int pageSize, Supplier<PhotoResponse> loader) {
+    if (cache == null) {
+      return loader.get();
+    }
+    PageKey key = new PageKey(lastKey == null ? "" : lastKey, pageSize);
+    PhotoResponse cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    long startedAt = generation.get();
+    PhotoResponse page = loader.get();
+    putIfCurrent(key, page, startedAt);
+    return page;
+  }
+
+  /**
+   * Async variant of {@link #get}: returns the cached page, or starts the load and caches its
+   * result once it completes.
+   *
+   * @param lastKey the pagination cursor (null or empty for the first page)
+   * @param pageSize the validated page size
+   * @param loader starts reading the page from DynamoDB
+   * @return a future of the gallery page
+   */
+  public CompletableFuture<PhotoResponse> getAsync(
+      String lastKey, int pageSize, Supplier<CompletableFuture<PhotoResponse>> loader) {
+    if (cache == null) {
+      return loader.get();
+    }
+    PageKey key = new PageKey(lastKey == null ? "" : lastKey, pageSize);
+    PhotoResponse cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    long startedAt = generation.get();
+    return loader.get().thenApply(page -> {
+      putIfCurrent(key, page, startedAt);
+      return page;
+    });
+  }
+
+  /**
+   * Caches a loaded page unless an invalidation happened since the load started. The check is
+   * repeated after the put, since an invalidation may land between the two.
+   */
+  private void putIfCurrent(PageKey key, PhotoResponse page, long startedAt) {
+    if (generation.get() != startedAt) {
+      return;
+    }
+    cache.put(key, page);
+    if (generation.get() != startedAt) {
+      cache.invalidate(key);
+    }
+  }
+
+  /**
+   * Drops every cached page. Called after any successful photo write,
+   * since one change can shift items across all later pages.
+   */
+  public void invalidateAll() {
+    if (cache != null) {
+      generation.incrementAndGet();
+      cache.invalidateAll();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key runs the load, callers
+ * arriving while it is in flight wait for and share its result (or exception).
+ * Nothing is retained once the load completes, so this adds no staleness.
+ *
+ * <p>Calls are counted per group as "singleflight.calls" tagged result=leader|coalesced.
+ * Groups name the read (e.g. "profile"), keeping metric cardinality bounded.
+ */
+@Component
+public class SingleFlight {
+
+  private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Counter[]> counters = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  public SingleFlight(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Runs the loader, or joins an identical load already in flight.
+   *
+   * @param group the kind of read, used as the metrics tag
+   * @param key identifies identical reads within the group
+   * @param loader performs the read
+   * @return the loaded value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String group, String key, Supplier<T> loader) {
+    Counter[] groupCounters = counters.computeIfAbsent(group, this::registerCounters);
+    String flightKey = group + '\u0000' + key;
+
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+    if (existing != null) {
+      groupCounters[1].increment();
+      return (T) await(existing);
+    }
+
+    groupCounters[0].increment();
+    try {
+      T value = loader.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  /**
+   * Async variant of {@link #execute}: starts the load, or joins an identical load already in
+   * flight (blocking or async), without blocking the caller.
+   *
+   * @param group the kind of read, used as the metrics tag
+   * @param key identifies identical reads within the group
+   * @param loader starts the read
+   * @return a future of the loaded value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> executeAsync(
+      String group, String key, Supplier<CompletableFuture<T>> loader) {
+    Counter[] groupCounters = counters.computeIfAbsent(group, this::registerCounters);
+    String flightKey = group + '\u0000' + key;
+
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+    if (existing != null) {
+      groupCounters[1].increment();
+      // A dependent stage, so a caller cannot complete the shared flight
+      return existing.thenApply(value -> (T) value);
+    }
+
+    groupCounters[0].increment();
+    CompletableFuture<T> load;
+    try {
+      load = loader.get();
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(flightKey, flight);
+      flight.completeExceptionally(e);
+      return CompletableFuture.failedFuture(e);
+    }
+    return load.whenComplete(
+        (value, error) -> {
+          inFlight.remove(flightKey, flight);
+          if (error != null) {
+            // Keep the original exception for blocking callers, which rethrow the cause
+            flight.completeExceptionally(
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+          } else {
+            flight.complete(value);
+          }
+        });
+  }
+
+  private Counter[] registerCounters(String group) {
+    return new Counter[] {
+      Counter.builder("singleflight.calls")
+          .description("Reads that went to the backing store")
+          .tag("group", group)
+          .tag("result", "leader")
+          .register(meterRegistry),
+      Counter.builder("singleflight.calls")
+          .description("Reads that shared an in-flight call instead")
+          .tag("group", group)
+          .tag("result", "coalesced")
+          .register(meterRegistry)
+    };
+  }
+
+  /**
+   * Waits for the leader and rethrows its original exception, so callers see the same
+   * AWS exceptions the leader did.
+   */
+  private static Object await(CompletableFuture<Object> flight) {
+    try {
+      return flight.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CompletionException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new CompletionException(cause);
+    }
+  }
+}
@@ -1,3 +1,24 @@
 package com.api.common;
 
-public record ApiResponse(String status, Integer code, String message, Object data, String error) {}
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record ApiResponse(
+    String status,
+    Integer code,
+    String message,
+    Object data,
+    String error,
+    // Set only on a last known good copy served while the database is unavailable
+    @JsonInclude(JsonInclude.Include.NON_NULL) Boolean stale) {
+
+  public ApiResponse(String status, Integer code, String message, Object data, String error) {
+    this(status, code, message, data, error, null);
+  }
+
+  /**
+   * Returns this response flagged as a stale copy.
+   */
+  public ApiResponse asStale() {
+    return new ApiResponse(status, code, message, data, error, Boolean.TRUE);
+  }
+}
@@ -0,0 +1,108 @@
+package com.api.common;
+
+import com.api.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves the address of the client behind a request, the same way for rate limiting and access
+ * logging. By default it is the connection's remote address. When app.rate-limit.client-ip-header
+ * is set and the connection comes from one of app.rate-limit.trusted-proxies, the header is used
+ * instead (the last entry if it lists several, i.e. the one added by the nearest proxy). A header
+ * sent from any other address is ignored, since any client can forge it.
+ */
+@Component
+public class ClientAddressResolver {
+
+  private final String clientIpHeader;
+  private final List<Cidr> trustedProxies;
+
+  public ClientAddressResolver(RateLimitProperties rateLimitProperties) {
+    this.clientIpHeader = rateLimitProperties.getClientIpHeader();
+    this.trustedProxies = rateLimitProperties.getTrustedProxies().stream()
+        .filter(StringUtils::hasText)
+        .map(Cidr::parse)
+        .toList();
+  }
+
+  public String resolve(HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    if (!StringUtils.hasText(clientIpHeader) || !isTrustedProxy(remoteAddr)) {
+      return remoteAddr;
+    }
+    String forwarded = request.getHeader(clientIpHeader);
+    if (!StringUtils.hasText(forwarded)) {
+      return remoteAddr;
+    }
+    return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+  }
+
+  private boolean isTrustedProxy(String remoteAddr) {
+    if (trustedProxies.isEmpty() || !StringUtils.hasText(remoteAddr)) {
+      return false;
+    }
+    byte[] address;
+    try {
+      address = InetAddress.getByName(remoteAddr).getAddress();
+    } catch (UnknownHostException e) {
+      return false;
+    }
+    for (Cidr cidr : trustedProxies) {
+      if (cidr.contains(address)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * An address block such as 173.245.48.0/20 or 2400:cb00::/32; a bare address is a block of one.
+   */
+  private record Cidr(byte[] network, int prefixLength) {
+
+    static Cidr parse(String value) {
+      String trimmed = value.trim();
+      int slash = trimmed.indexOf('/');
+      String host = slash < 0 ? trimmed : trimmed.substring(0, slash);
+      byte[] network;
+      try {
+        network = InetAddress.getByName(host).getAddress();
+      } catch (UnknownHostException e) {
+        throw new IllegalArgumentException("Invalid trusted proxy address: " + value, e);
+      }
+      int maxLength = network.length * 8;
+      int prefixLength;
+      try {
+        prefixLength = slash < 0 ? maxLength : Integer.parseInt(trimmed.substring(slash + 1));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid trusted proxy prefix length: " + value, e);
+      }
+      if (prefixLength < 0 || prefixLength > maxLength) {
+        throw new IllegalArgumentException("Invalid trusted proxy prefix length: " + value);
+      }
+      return new Cidr(network, prefixLength);
+    }
+
+    boolean contains(byte[] address) {
+      if (address.length != network.length) {
+        return false;
+      }
+      int fullBytes = prefixLength / 8;
+      for (int i = 0; i < fullBytes; i++) {
+        if (address[i] != network[i]) {
+          return false;
+        }
+      }
+      int remainingBits = prefixLength % 8;
+      if (remainingBits == 0) {
+        return true;
+      }
+      int mask = 0xFF << (8 - remainingBits);
+      return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.api.common;
+
+import com.api.metrics.EndpointContext;
+import com.api.metrics.ServerTiming;
+import com.api.resilience.RequestDeadline;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of the request-scoped thread-locals, for running part of a request's work on
+ * another thread (hedged attempts, bulk-delete tasks, async continuations).
+ *
+ * <p>These thread-locals are deliberately not inheritable: pooled threads such as SDK completion
+ * threads and Netty event loops outlive the request that happened to start them, so every
+ * hand-off captures the context on the request thread and restores it around the work.
+ */
+public final class RequestContext {
+
+  private final RequestDeadline deadline;
+  private final String endpoint;
+  private final ServerTiming timing;
+
+  private RequestContext(RequestDeadline deadline, String endpoint, ServerTiming timing) {
+    this.deadline = deadline;
+    this.endpoint = endpoint;
+    this.timing = timing;
+  }
+
+  /** Captures the context of the current thread. */
+  public static RequestContext capture() {
+    return new RequestContext(RequestDeadline.current(), EndpointContext.current(), ServerTiming.current());
+  }
+
+  /**
+   * Runs work with this context bound, restoring the thread's own context afterwards.
+   */
+  public <T> T call(Supplier<T> work) {
+    RequestDeadline previousDeadline = RequestDeadline.swap(deadline);
+    String previousEndpoint = EndpointContext.swap(endpoint);
+    ServerTiming previousTiming = ServerTiming.swap(timing);
+    try {
+      return work.get();
+    } finally {
+      ServerTiming.swap(previousTiming);
+      EndpointContext.swap(previousEndpoint);
+      RequestDeadline.swap(previousDeadline);
+    }
+  }
+
+  /** Returns work that runs with this context bound, on whichever thread calls it. */
+  public <T> Supplier<T> wrap(Supplier<T> work) {
+    return () -> call(work);
+  }
+}
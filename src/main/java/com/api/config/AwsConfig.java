@@ -1,15 +1,33 @@
 package com.api.config;
 
 import com.api.common.Constant;
+import com.api.health.DependencyHealth;
+import com.api.health.DependencyHealthInterceptor;
+import com.api.metrics.AwsSdkMetrics;
+import com.api.metrics.CapacityLedger;
+import com.api.metrics.ConsumedCapacityInterceptor;
+import com.api.metrics.DynamoDbJfrInterceptor;
+import com.api.metrics.ServerTimingSdkInterceptor;
+import com.api.resilience.BulkheadInterceptor;
+import com.api.resilience.Bulkheads;
+import com.api.resilience.CircuitBreakerInterceptor;
+import com.api.resilience.CircuitBreakers;
+import com.api.resilience.DeadlineInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
@@ -56,17 +74,107 @@ public class AwsConfig {
   }
 
   /**
-   * Creates a singleton DynamoDB client bean.
+   * Creates a singleton DynamoDB client bean. Every call is bounded by the request deadline,
+   * passes the DynamoDB circuit breaker, holds a slot of the DynamoDB bulkhead, is published to
+   * Micrometer, has its consumed capacity recorded and feeds the DynamoDB health state.
    *
    * @param credentialsProvider the AWS credentials provider
+   * @param deadlineProperties request budgets and default SDK timeouts
+   * @param circuitBreakers the dependency circuit breakers
+   * @param bulkheads the dependency bulkheads
+   * @param awsProperties HTTP client settings
+   * @param awsSdkMetrics SDK metric publisher
+   * @param capacityLedger consumed-capacity totals
+   * @param dependencyHealth dependency health fed by call outcomes
    * @return configured DynamoDbClient instance
    */
   @Bean
-  public DynamoDbClient dynamoDbClient(AwsCredentialsProvider credentialsProvider) {
-    logger.info("Initializing DynamoDB client for region: {}", Constant.REGION);
+  public DynamoDbClient dynamoDbClient(
+      AwsCredentialsProvider credentialsProvider,
+      DeadlineProperties deadlineProperties,
+      CircuitBreakers circuitBreakers,
+      Bulkheads bulkheads,
+      AwsProperties awsProperties,
+      AwsSdkMetrics awsSdkMetrics,
+      CapacityLedger capacityLedger,
+      DependencyHealth dependencyHealth) {
+    AwsProperties.Http http = awsProperties.getHttp();
+    logger.info("Initializing DynamoDB client for region: {} (http client={}, maxConnections={})",
+        Constant.REGION, http.getClient(), http.getMaxConnections());
     return DynamoDbClient.builder()
         .region(Constant.REGION)
         .credentialsProvider(credentialsProvider)
+        .httpClientBuilder(httpClientBuilder(http))
+        .overrideConfiguration(
+            config -> config
+                .apiCallTimeout(deadlineProperties.getDefaultBudget())
+                .apiCallAttemptTimeout(deadlineProperties.getMaxAttemptTimeout())
+                .addExecutionInterceptor(new ServerTimingSdkInterceptor())
+                .addExecutionInterceptor(new DynamoDbJfrInterceptor())
+                .addExecutionInterceptor(new DeadlineInterceptor(deadlineProperties.getMaxAttemptTimeout()))
+                .addExecutionInterceptor(new CircuitBreakerInterceptor(circuitBreakers.dynamoDb()))
+                .addExecutionInterceptor(new BulkheadInterceptor(bulkheads.dynamoDb(), circuitBreakers.dynamoDb()))
+                .addExecutionInterceptor(new ConsumedCapacityInterceptor(capacityLedger))
+                .addExecutionInterceptor(new DependencyHealthInterceptor(dependencyHealth.dynamoDb()))
+                .addMetricPublisher(awsSdkMetrics))
+        .build();
+  }
+
+  /**
+   * Creates the async DynamoDB client used by the photo read endpoints when
+   * app.aws.dynamo-client-mode=async. Writes keep using the blocking client.
+   *
+   * @param credentialsProvider the AWS credentials provider
+   * @param deadlineProperties request budgets and default SDK timeouts
+   * @param circuitBreakers the dependency circuit breakers
+   * @param awsProperties HTTP client settings
+   * @param awsSdkMetrics SDK metric publisher
+   * @param capacityLedger consumed-capacity totals
+   * @param dependencyHealth dependency health fed by call outcomes
+   * @return configured DynamoDbAsyncClient instance
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "app.aws", name = "dynamo-client-mode", havingValue = "async")
+  public DynamoDbAsyncClient dynamoDbAsyncClient(
+      AwsCredentialsProvider credentialsProvider,
+      DeadlineProperties deadlineProperties,
+      CircuitBreakers circuitBreakers,
+      AwsProperties awsProperties,
+      AwsSdkMetrics awsSdkMetrics,
+      CapacityLedger capacityLedger,
+      DependencyHealth dependencyHealth) {
+    AwsProperties.Http http = awsProperties.getHttp();
+    logger.info("Initializing async DynamoDB client for region: {} (maxConcurrency={})",
+        Constant.REGION, http.getMaxConnections());
+
+    NettyNioAsyncHttpClient.Builder httpClient =
+        NettyNioAsyncHttpClient.builder()
+            .maxConcurrency(http.getMaxConnections())
+            .connectionTimeout(http.getConnectionTimeout())
+            .readTimeout(http.getSocketTimeout())
+            .writeTimeout(http.getSocketTimeout())
+            .connectionAcquisitionTimeout(http.getConnectionAcquisitionTimeout())
+            .connectionMaxIdleTime(http.getConnectionMaxIdleTime())
+            .tcpKeepAlive(http.isTcpKeepAlive());
+    if (http.getConnectionTimeToLive().isPositive()) {
+      httpClient.connectionTimeToLive(http.getConnectionTimeToLive());
+    }
+
+    return DynamoDbAsyncClient.builder()
+        .region(Constant.REGION)
+        .credentialsProvider(credentialsProvider)
+        .httpClientBuilder(httpClient)
+        .overrideConfiguration(
+            config -> config
+                .apiCallTimeout(deadlineProperties.getDefaultBudget())
+                .apiCallAttemptTimeout(deadlineProperties.getMaxAttemptTimeout())
+                .addExecutionInterceptor(new ServerTimingSdkInterceptor())
+                .addExecutionInterceptor(new DynamoDbJfrInterceptor())
+                .addExecutionInterceptor(new DeadlineInterceptor(deadlineProperties.getMaxAttemptTimeout()))
+                .addExecutionInterceptor(new CircuitBreakerInterceptor(circuitBreakers.dynamoDb()))
+                .addExecutionInterceptor(new ConsumedCapacityInterceptor(capacityLedger))
+                .addExecutionInterceptor(new DependencyHealthInterceptor(dependencyHealth.dynamoDb()))
+                .addMetricPublisher(awsSdkMetrics))
         .build();
   }
 
@@ -85,6 +193,30 @@ public class AwsConfig {
         .build();
   }
 
+  /**
+   * Builds the HTTP client for the blocking clients from app.aws.http.
+   */
+  private static SdkHttpClient.Builder<?> httpClientBuilder(AwsProperties.Http http) {
+    if (http.getClient() == AwsProperties.HttpClientType.URL_CONNECTION) {
+      return UrlConnectionHttpClient.builder()
+          .connectionTimeout(http.getConnectionTimeout())
+          .socketTimeout(http.getSocketTimeout());
+    }
+
+    ApacheHttpClient.Builder httpClient =
+        ApacheHttpClient.builder()
+            .maxConnections(http.getMaxConnections())
+            .connectionTimeout(http.getConnectionTimeout())
+            .socketTimeout(http.getSocketTimeout())
+            .connectionAcquisitionTimeout(http.getConnectionAcquisitionTimeout())
+            .connectionMaxIdleTime(http.getConnectionMaxIdleTime())
+            .tcpKeepAlive(http.isTcpKeepAlive());
+    if (http.getConnectionTimeToLive().isPositive()) {
+      httpClient.connectionTimeToLive(http.getConnectionTimeToLive());
+    }
+    return httpClient;
+  }
+
   /**
    * Checks if local credentials are configured in properties file.
    */
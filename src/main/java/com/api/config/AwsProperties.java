@@ -1,5 +1,6 @@
 package com.api.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +12,140 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "app.aws")
 public class AwsProperties {
 
+  /**
+   * How the photo read endpoints call DynamoDB.
+   */
+  public enum DynamoClientMode {
+    /** Blocking client; each request holds its servlet thread for the whole round trip. */
+    BLOCKING,
+    /** Async client; the servlet thread is released while DynamoDB calls are in flight. */
+    ASYNC
+  }
+
+  /**
+   * HTTP client implementation behind the blocking AWS clients.
+   */
+  public enum HttpClientType {
+    /** Apache HttpClient with a pooled, keep-alive connection manager. */
+    APACHE,
+    /** JDK HttpURLConnection; smaller footprint, relies on the JDK's keep-alive cache. */
+    URL_CONNECTION
+  }
+
+  /**
+   * HTTP connection settings shared by the DynamoDB clients. The async client uses Netty with
+   * the same limits.
+   */
+  public static class Http {
+    private HttpClientType client = HttpClientType.APACHE;
+    private int maxConnections = 50;
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+    private Duration socketTimeout = Duration.ofSeconds(5);
+    private Duration connectionAcquisitionTimeout = Duration.ofSeconds(1);
+    private Duration connectionMaxIdleTime = Duration.ofSeconds(60);
+    // 0 keeps connections until they go idle or the server closes them
+    private Duration connectionTimeToLive = Duration.ZERO;
+    private boolean tcpKeepAlive = true;
+
+    public HttpClientType getClient() {
+      return client;
+    }
+
+    public void setClient(HttpClientType client) {
+      this.client = client;
+    }
+
+    public int getMaxConnections() {
+      return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+      this.maxConnections = maxConnections;
+    }
+
+    public Duration getConnectionTimeout() {
+      return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+      this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getSocketTimeout() {
+      return socketTimeout;
+    }
+
+    public void setSocketTimeout(Duration socketTimeout) {
+      this.socketTimeout = socketTimeout;
+    }
+
+    public Duration getConnectionAcquisitionTimeout() {
+      return connectionAcquisitionTimeout;
+    }
+
+    public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+      this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+    }
+
+    public Duration getConnectionMaxIdleTime() {
+      return connectionMaxIdleTime;
+    }
+
+    public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+      this.connectionMaxIdleTime = connectionMaxIdleTime;
+    }
+
+    public Duration getConnectionTimeToLive() {
+      return connectionTimeToLive;
+    }
+
+    public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+      this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    public boolean isTcpKeepAlive() {
+      return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(boolean tcpKeepAlive) {
+      this.tcpKeepAlive = tcpKeepAlive;
+    }
+  }
+
+  /**
+   * Startup warmup run before the application reports ready.
+   */
+  public static class Warmup {
+    private boolean enabled = true;
+    // Concurrent DynamoDB calls, i.e. pooled connections opened up front
+    private int connections = 8;
+    private Duration timeout = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getConnections() {
+      return connections;
+    }
+
+    public void setConnections(int connections) {
+      this.connections = connections;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+
   private String region = "us-east-1";
   private String photosBucket = "photos-jin";
   private String assetsBucket = "generic-jin";
@@ -18,6 +153,9 @@ public class AwsProperties {
   private String assetsCloudFront = "https://d3bjrjf10s3vbi.cloudfront.net/";
   private String profileTable = "tbl_profile";
   private String photoTable = "tbl_photo";
+  private DynamoClientMode dynamoClientMode = DynamoClientMode.BLOCKING;
+  private final Http http = new Http();
+  private final Warmup warmup = new Warmup();
 
   public String getRegion() {
     return region;
@@ -74,4 +212,20 @@ public class AwsProperties {
   public void setPhotoTable(String photoTable) {
     this.photoTable = photoTable;
   }
+
+  public DynamoClientMode getDynamoClientMode() {
+    return dynamoClientMode;
+  }
+
+  public void setDynamoClientMode(DynamoClientMode dynamoClientMode) {
+    this.dynamoClientMode = dynamoClientMode;
+  }
+
+  public Http getHttp() {
+    return http;
+  }
+
+  public Warmup getWarmup() {
+    return warmup;
+  }
 }
@@ -0,0 +1,133 @@
+package com.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Warms the AWS clients before the application reports ready.
+ *
+ * <p>Runs as an {@link ApplicationRunner}, so Spring Boot switches readiness to
+ * ACCEPTING_TRAFFIC only after it returns. It issues concurrent key-only GetItem calls
+ * (opening that many pooled connections and paying TLS handshakes, credential resolution and
+ * SDK class loading up front), then presigns one dummy upload. Failures are logged, never fatal:
+ * a cold client is better than a pod that never becomes ready.
+ */
+@Component
+public class AwsWarmup implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(AwsWarmup.class);
+
+  private static final String PROFILE_ID = "main";
+  private static final String WARMUP_KEY = "warmup";
+
+  private final DynamoDbClient dynamoDbClient;
+  private final DynamoDbAsyncClient dynamoDbAsyncClient;
+  private final S3Presigner s3Presigner;
+  private final AwsProperties awsProperties;
+
+  public AwsWarmup(
+      DynamoDbClient dynamoDbClient,
+      @Nullable DynamoDbAsyncClient dynamoDbAsyncClient,
+      S3Presigner s3Presigner,
+      AwsProperties awsProperties) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+    this.s3Presigner = s3Presigner;
+    this.awsProperties = awsProperties;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    AwsProperties.Warmup warmup = awsProperties.getWarmup();
+    if (!warmup.isEnabled()) {
+      logger.info("AWS warmup disabled");
+      return;
+    }
+
+    long start = System.nanoTime();
+    long deadline = start + warmup.getTimeout().toNanos();
+    int connections = Math.max(1, warmup.getConnections());
+
+    int ok = warmDynamoDb(connections, deadline);
+    warmPresigner();
+
+    logger.info("AWS warmup finished in {} ms: {}/{} DynamoDB calls succeeded",
+        Duration.ofNanos(System.nanoTime() - start).toMillis(), ok, connections);
+  }
+
+  /**
+   * Issues concurrent GetItem calls alternating between the profile and photo tables.
+   *
+   * @return number of calls that completed successfully before the deadline
+   */
+  private int warmDynamoDb(int connections, long deadline) {
+    List<Callable<Void>> calls = new ArrayList<>(connections);
+    for (int i = 0; i < connections; i++) {
+      GetItemRequest request = i % 2 == 0
+          ? keyOnlyGet(awsProperties.getProfileTable(), "profileId", PROFILE_ID)
+          : keyOnlyGet(awsProperties.getPhotoTable(), "imageID", WARMUP_KEY);
+      boolean useAsync = dynamoDbAsyncClient != null && i % 2 == 1;
+      calls.add(() -> {
+        if (useAsync) {
+          dynamoDbAsyncClient.getItem(request).join();
+        } else {
+          dynamoDbClient.getItem(request);
+        }
+        return null;
+      });
+    }
+
+    int ok = 0;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      long remaining = Math.max(0, deadline - System.nanoTime());
+      for (Future<Void> result : executor.invokeAll(calls, remaining, TimeUnit.NANOSECONDS)) {
+        if (result.state() == Future.State.SUCCESS) {
+          ok++;
+        } else if (result.state() == Future.State.FAILED) {
+          logger.warn("AWS warmup call failed: {}", result.exceptionNow().getMessage());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("AWS warmup interrupted");
+    }
+    return ok;
+  }
+
+  private void warmPresigner() {
+    try {
+      s3Presigner.presignPutObject(
+          presign -> presign
+              .signatureDuration(Duration.ofMinutes(1))
+              .putObjectRequest(put -> put.bucket(awsProperties.getPhotosBucket()).key(WARMUP_KEY)));
+    } catch (RuntimeException e) {
+      logger.warn("S3 presigner warmup failed: {}", e.getMessage());
+    }
+  }
+
+  private static GetItemRequest keyOnlyGet(String tableName, String keyName, String keyValue) {
+    return GetItemRequest.builder()
+        .tableName(tableName)
+        .key(Map.of(keyName, AttributeValue.builder().s(keyValue).build()))
+        .projectionExpression(keyName)
+        .build();
+  }
+}
@@ -0,0 +1,56 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Concurrency limits (bulkheads) around downstream dependencies.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+
+  /**
+   * Limits for one dependency.
+   */
+  public static class Settings {
+    // Calls allowed in flight at once; 0 disables the bulkhead
+    private int maxConcurrent;
+    // How long a call queues for a free slot before it is rejected; 0 rejects immediately
+    private Duration maxWait = Duration.ofMillis(100);
+
+    Settings(int maxConcurrent) {
+      this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getMaxConcurrent() {
+      return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+      this.maxConcurrent = maxConcurrent;
+    }
+
+    public Duration getMaxWait() {
+      return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+      this.maxWait = maxWait;
+    }
+  }
+
+  // Matches the default app.aws.http.max-connections pool size
+  private final Settings dynamodb = new Settings(50);
+  private final Settings presigner = new Settings(32);
+
+  public Settings getDynamodb() {
+    return dynamodb;
+  }
+
+  public Settings getPresigner() {
+    return presigner;
+  }
+}
@@ -0,0 +1,115 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circuit breaker thresholds around downstream dependencies.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.circuit-breaker")
+public class CircuitBreakerProperties {
+
+  /**
+   * Thresholds for one dependency.
+   */
+  public static class Settings {
+    private boolean enabled = true;
+    // Outcomes of the most recent calls that the rates below are computed over
+    private int windowSize = 20;
+    // Calls needed in the window before the breaker may trip
+    private int minimumCalls = 10;
+    // Percentage of failed calls (throttling, 5xx, I/O errors) that opens the breaker; 0 ignores failures
+    private int failureRateThreshold = 50;
+    // Calls slower than this count as slow
+    private Duration slowCallDuration = Duration.ofSeconds(1);
+    // Percentage of slow calls that opens the breaker; 0 ignores latency
+    private int slowCallRateThreshold = 80;
+    // How long the breaker stays open before letting trial calls through
+    private Duration openDuration = Duration.ofSeconds(10);
+    // Trial calls that must all succeed to close the breaker again
+    private int halfOpenCalls = 3;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getWindowSize() {
+      return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+      this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+      return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+      this.minimumCalls = minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+      return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+      return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+      this.slowCallDuration = slowCallDuration;
+    }
+
+    public int getSlowCallRateThreshold() {
+      return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Duration getOpenDuration() {
+      return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+      this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+      return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+      this.halfOpenCalls = halfOpenCalls;
+    }
+  }
+
+  private final Settings dynamodb = new Settings();
+  // Last known good responses kept per read endpoint for serving while DynamoDB is unavailable; 0 disables
+  private int staleMaxEntries = 1000;
+
+  public Settings getDynamodb() {
+    return dynamodb;
+  }
+
+  public int getStaleMaxEntries() {
+    return staleMaxEntries;
+  }
+
+  public void setStaleMaxEntries(int staleMaxEntries) {
+    this.staleMaxEntries = staleMaxEntries;
+  }
+}
@@ -0,0 +1,80 @@
+package com.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptive limit on concurrent /v1 requests, learned from observed latency.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  private boolean enabled = true;
+  private int initialLimit = 100;
+  private int minLimit = 10;
+  private int maxLimit = 400;
+  // Latency may rise to this multiple of the long-term baseline before the limit shrinks
+  private double tolerance = 2.0;
+  // Weight of each new estimate in the limit (0..1); lower reacts slower but steadier
+  private double smoothing = 0.2;
+  // Share of the limit reads (GET) may fill; the rest is reserved for writes
+  private double readShare = 0.8;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public void setInitialLimit(int initialLimit) {
+    this.initialLimit = initialLimit;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public void setMinLimit(int minLimit) {
+    this.minLimit = minLimit;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public void setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+  }
+
+  public double getTolerance() {
+    return tolerance;
+  }
+
+  public void setTolerance(double tolerance) {
+    this.tolerance = tolerance;
+  }
+
+  public double getSmoothing() {
+    return smoothing;
+  }
+
+  public void setSmoothing(double smoothing) {
+    this.smoothing = smoothing;
+  }
+
+  public double getReadShare() {
+    return readShare;
+  }
+
+  public void setReadShare(double readShare) {
+    this.readShare = readShare;
+  }
+}
@@ -0,0 +1,52 @@
+package com.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request time budgets, passed on to every DynamoDB call as its SDK timeouts.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.deadline")
+public class DeadlineProperties {
+
+  private boolean enabled = true;
+  // Budget for requests matching no entry in endpoints; also the client-wide API call timeout
+  private Duration defaultBudget = Duration.ofSeconds(3);
+  // Upper bound on one HTTP attempt, so a slow attempt leaves budget for a retry
+  private Duration maxAttemptTimeout = Duration.ofSeconds(1);
+  // Budgets by path pattern (e.g. /v1/images/batch/**), first match wins
+  private final Map<String, Duration> endpoints = new LinkedHashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getDefaultBudget() {
+    return defaultBudget;
+  }
+
+  public void setDefaultBudget(Duration defaultBudget) {
+    this.defaultBudget = defaultBudget;
+  }
+
+  public Duration getMaxAttemptTimeout() {
+    return maxAttemptTimeout;
+  }
+
+  public void setMaxAttemptTimeout(Duration maxAttemptTimeout) {
+    this.maxAttemptTimeout = maxAttemptTimeout;
+  }
+
+  public Map<String, Duration> getEndpoints() {
+    return endpoints;
+  }
+}
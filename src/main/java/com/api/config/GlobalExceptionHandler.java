@@ -1,9 +1,14 @@
 package com.api.config;
 
 import com.api.common.ApiResponse;
+import com.api.logging.ExceptionLogThrottle;
+import com.api.resilience.BulkheadFullException;
+import com.api.resilience.CircuitBreakerOpenException;
+import com.api.resilience.DeadlineExceededException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,13 +19,20 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 
 /**
  * Global exception handler for centralized error handling across all controllers.
- * Converts exceptions to consistent ApiResponse format.
+ * Converts exceptions to consistent ApiResponse format. Stack traces of repeated server
+ * errors are throttled by {@link ExceptionLogThrottle}.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
   private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+  private final ExceptionLogThrottle exceptionLogThrottle;
+
+  public GlobalExceptionHandler(ExceptionLogThrottle exceptionLogThrottle) {
+    this.exceptionLogThrottle = exceptionLogThrottle;
+  }
+
   /**
    * Handles validation errors from @Valid annotations.
    */
@@ -62,7 +74,7 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(AwsServiceException.class)
   public ResponseEntity<ApiResponse> handleAwsServiceException(AwsServiceException ex) {
-    logger.error("AWS service error: {}", ex.getMessage(), ex);
+    exceptionLogThrottle.error(logger, "AWS service error", ex);
 
     ApiResponse response =
         new ApiResponse(
@@ -79,7 +91,7 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(SdkClientException.class)
   public ResponseEntity<ApiResponse> handleSdkClientException(SdkClientException ex) {
-    logger.error("AWS SDK client error: {}", ex.getMessage(), ex);
+    exceptionLogThrottle.error(logger, "AWS SDK client error", ex);
 
     ApiResponse response =
         new ApiResponse(
@@ -91,6 +103,62 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
   }
 
+  /**
+   * Handles calls rejected by a saturated bulkhead.
+   */
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<ApiResponse> handleBulkheadFull(BulkheadFullException ex) {
+    logger.warn("Bulkhead full: {}", ex.getBulkhead());
+
+    ApiResponse response =
+        new ApiResponse(
+            "error",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Server busy, retry later",
+            null,
+            ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(response);
+  }
+
+  /**
+   * Handles calls failed fast by an open circuit breaker.
+   */
+  @ExceptionHandler(CircuitBreakerOpenException.class)
+  public ResponseEntity<ApiResponse> handleCircuitBreakerOpen(CircuitBreakerOpenException ex) {
+    logger.debug("Circuit breaker open: {}", ex.getCircuitBreaker());
+
+    ApiResponse response =
+        new ApiResponse(
+            "error",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service temporarily unavailable, retry later",
+            null,
+            ex.getMessage());
+    long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(response);
+  }
+
+  /**
+   * Handles dependency calls refused because the request's time budget was spent.
+   */
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<ApiResponse> handleDeadlineExceeded(DeadlineExceededException ex) {
+    logger.warn("Deadline exceeded: {}", ex.getMessage());
+
+    ApiResponse response =
+        new ApiResponse(
+            "error",
+            HttpStatus.GATEWAY_TIMEOUT.value(),
+            "Request timed out",
+            null,
+            ex.getMessage());
+    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+  }
+
   /**
    * Handles illegal argument exceptions.
    */
@@ -109,7 +177,7 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ApiResponse> handleGenericException(Exception ex) {
-    logger.error("Unexpected error: {}", ex.getMessage(), ex);
+    exceptionLogThrottle.error(logger, "Unexpected error", ex);
 
     ApiResponse response =
         new ApiResponse(
@@ -0,0 +1,54 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dependency health behind the readiness and liveness endpoints.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.health")
+public class HealthProperties {
+
+  // Background probe of DynamoDB and the presigner; real calls are observed either way
+  private boolean probeEnabled = true;
+  private Duration probeInterval = Duration.ofSeconds(15);
+  // Consecutive failed calls (probes or real requests) after which a dependency is down
+  private int failureThreshold = 3;
+  // Whether readiness fails while DynamoDB is down (degraded mode then only applies behind a fail-open balancer)
+  private boolean readinessRequiresDynamodb = true;
+
+  public boolean isProbeEnabled() {
+    return probeEnabled;
+  }
+
+  public void setProbeEnabled(boolean probeEnabled) {
+    this.probeEnabled = probeEnabled;
+  }
+
+  public Duration getProbeInterval() {
+    return probeInterval;
+  }
+
+  public void setProbeInterval(Duration probeInterval) {
+    this.probeInterval = probeInterval;
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public void setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+  }
+
+  public boolean isReadinessRequiresDynamodb() {
+    return readinessRequiresDynamodb;
+  }
+
+  public void setReadinessRequiresDynamodb(boolean readinessRequiresDynamodb) {
+    this.readinessRequiresDynamodb = readinessRequiresDynamodb;
+  }
+}
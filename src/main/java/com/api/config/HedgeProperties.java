@@ -0,0 +1,75 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedged reads: a duplicate of a slow idempotent DynamoDB read is sent once the first has taken
+ * longer than a tracked latency percentile.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.hedge")
+public class HedgeProperties {
+
+  private boolean enabled = false;
+  // Latency percentile of recent calls after which the duplicate is sent
+  private double percentile = 95;
+  // Never hedge sooner than this, however fast recent calls were
+  private Duration minDelay = Duration.ofMillis(5);
+  // Max hedges as a fraction of calls, e.g. 0.05 = at most 1 extra call per 20
+  private double maxRate = 0.05;
+  // Recent call latencies the percentile is computed over
+  private int window = 256;
+  // Calls observed before hedging starts
+  private int minSamples = 50;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public double getPercentile() {
+    return percentile;
+  }
+
+  public void setPercentile(double percentile) {
+    this.percentile = percentile;
+  }
+
+  public Duration getMinDelay() {
+    return minDelay;
+  }
+
+  public void setMinDelay(Duration minDelay) {
+    this.minDelay = minDelay;
+  }
+
+  public double getMaxRate() {
+    return maxRate;
+  }
+
+  public void setMaxRate(double maxRate) {
+    this.maxRate = maxRate;
+  }
+
+  public int getWindow() {
+    return window;
+  }
+
+  public void setWindow(int window) {
+    this.window = window;
+  }
+
+  public int getMinSamples() {
+    return minSamples;
+  }
+
+  public void setMinSamples(int minSamples) {
+    this.minSamples = minSamples;
+  }
+}
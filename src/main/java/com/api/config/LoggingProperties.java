@@ -0,0 +1,66 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Request access logging and exception log throttling. The async appender queue size
+ * (app.logging.queue-size) is read directly by logback-spring.xml.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.logging")
+public class LoggingProperties {
+
+  /**
+   * One-line-per-request access records.
+   */
+  public static class Access {
+    private boolean enabled = true;
+    // Fraction of successful, fast requests recorded; errors and slow requests always are
+    private double successSampleRate = 1.0;
+    // Requests at least this slow are always recorded
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public double getSuccessSampleRate() {
+      return successSampleRate;
+    }
+
+    public void setSuccessSampleRate(double successSampleRate) {
+      this.successSampleRate = successSampleRate;
+    }
+
+    public Duration getSlowThreshold() {
+      return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+      this.slowThreshold = slowThreshold;
+    }
+  }
+
+  private final Access access = new Access();
+  // A repeated exception (same type and throw site) logs its stack trace at most once per interval; 0 logs every one
+  private Duration exceptionDedupInterval = Duration.ofMinutes(1);
+
+  public Access getAccess() {
+    return access;
+  }
+
+  public Duration getExceptionDedupInterval() {
+    return exceptionDedupInterval;
+  }
+
+  public void setExceptionDedupInterval(Duration exceptionDedupInterval) {
+    this.exceptionDedupInterval = exceptionDedupInterval;
+  }
+}
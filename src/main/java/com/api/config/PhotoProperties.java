@@ -0,0 +1,126 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Externalized configuration for the photo gallery.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.photos")
+public class PhotoProperties {
+
+  /**
+   * How the gallery listing reads from the photo table.
+   */
+  public enum ListingMode {
+    /** Filtered Scan over the whole table (pays for soft-deleted items). */
+    SCAN,
+    /** Query against the sparse live-photo index, newest first. */
+    INDEX
+  }
+
+  /**
+   * Size and TTL limits for an in-memory cache in front of DynamoDB.
+   */
+  public static class CacheSettings {
+
+    private boolean enabled = true;
+    private long maxEntries = 500;
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public long getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+  }
+
+  private ListingMode listingMode = ListingMode.SCAN;
+  private String liveIndexName = "gsi_live_createdAt";
+  // Read budget for filling one gallery page; 0 disables the capacity limit
+  private int maxScannedItems = 200;
+  private double maxReadCapacity = 10;
+  // Max soft deletes in flight for one bulk delete request
+  private int bulkDeleteConcurrency = 16;
+  // Max conditional puts in flight for one batch metadata save
+  private int bulkSaveConcurrency = 16;
+  private final CacheSettings pageCache = new CacheSettings();
+  private final CacheSettings itemCache = new CacheSettings();
+
+  public ListingMode getListingMode() {
+    return listingMode;
+  }
+
+  public void setListingMode(ListingMode listingMode) {
+    this.listingMode = listingMode;
+  }
+
+  public String getLiveIndexName() {
+    return liveIndexName;
+  }
+
+  public void setLiveIndexName(String liveIndexName) {
+    this.liveIndexName = liveIndexName;
+  }
+
+  public int getMaxScannedItems() {
+    return maxScannedItems;
+  }
+
+  public void setMaxScannedItems(int maxScannedItems) {
+    this.maxScannedItems = maxScannedItems;
+  }
+
+  public double getMaxReadCapacity() {
+    return maxReadCapacity;
+  }
+
+  public void setMaxReadCapacity(double maxReadCapacity) {
+    this.maxReadCapacity = maxReadCapacity;
+  }
+
+  public int getBulkDeleteConcurrency() {
+    return bulkDeleteConcurrency;
+  }
+
+  public void setBulkDeleteConcurrency(int bulkDeleteConcurrency) {
+    this.bulkDeleteConcurrency = bulkDeleteConcurrency;
+  }
+
+  public int getBulkSaveConcurrency() {
+    return bulkSaveConcurrency;
+  }
+
+  public void setBulkSaveConcurrency(int bulkSaveConcurrency) {
+    this.bulkSaveConcurrency = bulkSaveConcurrency;
+  }
+
+  public CacheSettings getPageCache() {
+    return pageCache;
+  }
+
+  public CacheSettings getItemCache() {
+    return itemCache;
+  }
+}
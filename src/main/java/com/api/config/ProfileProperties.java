@@ -0,0 +1,25 @@
+package com.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Externalized configuration for profile data.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.profile")
+public class ProfileProperties {
+
+  // How long the cached "main" profile snapshot is served before re-reading; 0 disables caching
+  private Duration snapshotTtl = Duration.ofMinutes(5);
+
+  public Duration getSnapshotTtl() {
+    return snapshotTtl;
+  }
+
+  public void setSnapshotTtl(Duration snapshotTtl) {
+    this.snapshotTtl = snapshotTtl;
+  }
+}
@@ -0,0 +1,116 @@
+package com.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-client token bucket limits on selected routes.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+  // Header carrying the client address set by the proxy in front (blank = use the connection's remote address)
+  private String clientIpHeader = "";
+  // Proxy addresses (CIDR blocks) whose client address header is believed; from anyone else it is ignored
+  private List<String> trustedProxies = new ArrayList<>();
+  // Clients tracked per route; beyond this the least used buckets are dropped
+  private int maxClients = 100_000;
+  // Buckets unused this long are dropped; should exceed burst / requests-per-second so a dropped bucket was full
+  private Duration idleTimeout = Duration.ofMinutes(5);
+  // Limited routes by name (the "route" metric tag), first match wins
+  private final Map<String, Route> routes = new LinkedHashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getClientIpHeader() {
+    return clientIpHeader;
+  }
+
+  public void setClientIpHeader(String clientIpHeader) {
+    this.clientIpHeader = clientIpHeader;
+  }
+
+  public List<String> getTrustedProxies() {
+    return trustedProxies;
+  }
+
+  public void setTrustedProxies(List<String> trustedProxies) {
+    this.trustedProxies = trustedProxies;
+  }
+
+  public int getMaxClients() {
+    return maxClients;
+  }
+
+  public void setMaxClients(int maxClients) {
+    this.maxClients = maxClients;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  public void setIdleTimeout(Duration idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  public Map<String, Route> getRoutes() {
+    return routes;
+  }
+
+  public static class Route {
+    // Requests with this method whose path matches the pattern are limited
+    private String method = "GET";
+    private String path;
+    // Sustained rate per client
+    private double requestsPerSecond = 10;
+    // Requests a client may send at once after being idle
+    private int burst = 20;
+
+    public String getMethod() {
+      return method;
+    }
+
+    public void setMethod(String method) {
+      this.method = method;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public void setPath(String path) {
+      this.path = path;
+    }
+
+    public double getRequestsPerSecond() {
+      return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+      this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getBurst() {
+      return burst;
+    }
+
+    public void setBurst(int burst) {
+      this.burst = burst;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Externalized configuration for the Server-Timing response header.
+ * Values are loaded from application.properties or environment variables.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.server-timing")
+public class ServerTimingProperties {
+
+  private boolean enabled = false;
+  // Sent as Timing-Allow-Origin so cross-origin pages can read the timings; empty sends nothing
+  private String timingAllowOrigin = "";
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getTimingAllowOrigin() {
+    return timingAllowOrigin;
+  }
+
+  public void setTimingAllowOrigin(String timingAllowOrigin) {
+    this.timingAllowOrigin = timingAllowOrigin;
+  }
+}
@@ -0,0 +1,42 @@
+package com.api.config;
+
+import com.api.metrics.EndpointContextInterceptor;
+import com.api.metrics.TimedValidator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the application's Spring MVC handler interceptors, and a timed validator when
+ * Server-Timing headers are enabled.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  private final EndpointContextInterceptor endpointContextInterceptor;
+  private final ServerTimingProperties serverTimingProperties;
+  private final ObjectProvider<LocalValidatorFactoryBean> validator;
+
+  public WebMvcConfig(
+      EndpointContextInterceptor endpointContextInterceptor,
+      ServerTimingProperties serverTimingProperties,
+      ObjectProvider<LocalValidatorFactoryBean> validator) {
+    this.endpointContextInterceptor = endpointContextInterceptor;
+    this.serverTimingProperties = serverTimingProperties;
+    this.validator = validator;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(endpointContextInterceptor);
+  }
+
+  @Override
+  public Validator getValidator() {
+    // null keeps Spring Boot's default MVC validator
+    return serverTimingProperties.isEnabled() ? new TimedValidator(validator::getObject) : null;
+  }
+}
@@ -0,0 +1,82 @@
+package com.api.controller;
+
+import com.api.common.ApiResponse;
+import com.api.metrics.CapacityLedger;
+import com.api.service.PhotoService;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for operational endpoints. They are unauthenticated, so they only exist when
+ * app.admin.enabled=true (e.g. locally or while measuring), never on a public deployment.
+ */
+@RestController
+@RequestMapping("/v1/admin")
+@ConditionalOnProperty(prefix = "app.admin", name = "enabled", havingValue = "true")
+public class AdminController {
+
+  private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+  private final CapacityLedger capacityLedger;
+  private final PhotoService photoService;
+
+  public AdminController(CapacityLedger capacityLedger, PhotoService photoService) {
+    this.capacityLedger = capacityLedger;
+    this.photoService = photoService;
+  }
+
+  /**
+   * Returns DynamoDB consumed capacity per endpoint, table and read/write type since start or the
+   * last reset, most expensive first.
+   *
+   * @return capacity totals, per-call averages and rates
+   */
+  @GetMapping("/capacity")
+  public ResponseEntity<ApiResponse> getCapacity() {
+    logger.debug("Getting consumed capacity totals");
+
+    Map<String, Object> data =
+        Map.of(
+            "windowSeconds", capacityLedger.windowSeconds(),
+            "entries", capacityLedger.snapshot());
+    return ResponseEntity.ok(new ApiResponse("success", 200, "Consumed capacity totals", data, null));
+  }
+
+  /**
+   * Zeroes the capacity totals, e.g. before measuring a code path.
+   *
+   * @return success response
+   */
+  @PostMapping("/capacity/reset")
+  public ResponseEntity<ApiResponse> resetCapacity() {
+    logger.debug("Resetting consumed capacity totals");
+
+    capacityLedger.reset();
+    return ResponseEntity.ok(new ApiResponse("success", 200, "Consumed capacity totals reset", null, null));
+  }
+
+  /**
+   * Backfills the live-index key on one page of existing photos. Repeat with the returned lastKey
+   * until hasMore is false before setting PHOTO_LISTING_MODE=index.
+   *
+   * @param lastKey cursor from the previous call (optional)
+   * @param pageSize items to evaluate in this call (optional)
+   * @return scanned and updated counts and the cursor for the next call
+   */
+  @PostMapping("/photos/backfill-live")
+  public ResponseEntity<ApiResponse> backfillLiveKeys(
+      @RequestParam(value = "lastKey", required = false) String lastKey,
+      @RequestParam(value = "pageSize", required = false) Integer pageSize) {
+    logger.debug("Backfilling liveKey from lastKey={}", lastKey);
+
+    return ResponseEntity.ok(photoService.backfillLiveKeys(lastKey, pageSize));
+  }
+}
@@ -0,0 +1,62 @@
+package com.api.controller;
+
+import com.api.common.ApiResponse;
+import com.api.dto.response.PhotoResponse;
+import com.api.service.PhotoService;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for the photo read endpoints when app.aws.dynamo-client-mode=async. Handlers return
+ * futures, so the servlet thread is released while DynamoDB calls are in flight.
+ */
+@RestController
+@RequestMapping("/v1")
+@ConditionalOnProperty(prefix = "app.aws", name = "dynamo-client-mode", havingValue = "async")
+public class AsyncPhotoReadController {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncPhotoReadController.class);
+
+  private final PhotoService photoService;
+
+  public AsyncPhotoReadController(PhotoService photoService) {
+    this.photoService = photoService;
+  }
+
+  /**
+   * Retrieves photos with pagination support.
+   *
+   * @param lastKey the last evaluated key for pagination (optional)
+   * @param page the page size
+   * @return future of the paginated list of photos
+   */
+  @GetMapping("/images")
+  public CompletableFuture<ResponseEntity<PhotoResponse>> getPhotos(
+      @RequestParam(value = "lastKey", required = false) String lastKey,
+      @RequestParam("page") Integer page) {
+    logger.debug("Getting photos with lastKey={}, page={}", lastKey, page);
+
+    return photoService.getPhotosAsync(lastKey, page).thenApply(ResponseEntity::ok);
+  }
+
+  /**
+   * Retrieves a single photo by its ID.
+   *
+   * @param imageId the unique identifier of the photo
+   * @return future of the photo metadata or error response
+   */
+  @GetMapping("/images/{imageId}")
+  public CompletableFuture<ResponseEntity<ApiResponse>> getPhoto(@PathVariable String imageId) {
+    logger.debug("Getting photo with imageId={}", imageId);
+
+    return photoService.getPhotoAsync(imageId).thenApply(ResponseEntity::ok);
+  }
+}
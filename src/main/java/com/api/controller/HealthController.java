@@ -1,25 +1,87 @@
 package com.api.controller;
 
 import com.api.common.ApiResponse;
+import com.api.health.DependencyHealth;
+import com.api.health.DependencyStatus;
+import java.util.Map;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Controller for health check endpoints.
+ * Controller for health check endpoints. Dependency health is read from {@link DependencyHealth},
+ * kept current by real calls and a background prober, so probes never call AWS themselves.
  */
 @RestController
 public class HealthController {
 
+  private final ApplicationAvailability applicationAvailability;
+  private final DependencyHealth dependencyHealth;
+
+  public HealthController(ApplicationAvailability applicationAvailability, DependencyHealth dependencyHealth) {
+    this.applicationAvailability = applicationAvailability;
+    this.dependencyHealth = dependencyHealth;
+  }
+
   /**
-   * Health check / handshake endpoint.
+   * Health check / handshake endpoint. Reports 503 until startup (including the AWS warmup)
+   * has finished, so load balancers only route to warmed instances.
    *
    * @return success response indicating the service is healthy
    */
   @GetMapping("/")
   public ResponseEntity<ApiResponse> healthCheck() {
+    if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+      ApiResponse response =
+          new ApiResponse("error", HttpStatus.SERVICE_UNAVAILABLE.value(), "Starting up", null, null);
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     ApiResponse response =
         new ApiResponse("success", 200, "Handshake completed successfully.", null, null);
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * Readiness probe. Reports 503 until startup has finished and while a required dependency
+   * (see app.health.readiness-requires-dynamodb) is down.
+   *
+   * @return dependency statuses
+   */
+  @GetMapping("/health/ready")
+  public ResponseEntity<ApiResponse> readiness() {
+    Map<String, DependencyStatus> dependencies = dependencyHealth.statuses();
+    if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+      return unavailable("Starting up", dependencies);
+    }
+    if (!dependencyHealth.isReady()) {
+      return unavailable("Dependencies unavailable", dependencies);
+    }
+    return ResponseEntity.ok(new ApiResponse("success", 200, "Ready", dependencies, null));
+  }
+
+  /**
+   * Liveness probe. Dependency statuses are included for information only: a dependency outage
+   * is not fixed by restarting the instance.
+   *
+   * @return dependency statuses
+   */
+  @GetMapping("/health/live")
+  public ResponseEntity<ApiResponse> liveness() {
+    Map<String, DependencyStatus> dependencies = dependencyHealth.statuses();
+    if (applicationAvailability.getLivenessState() != LivenessState.CORRECT) {
+      return unavailable("Broken", dependencies);
+    }
+    return ResponseEntity.ok(new ApiResponse("success", 200, "Alive", dependencies, null));
+  }
+
+  private static ResponseEntity<ApiResponse> unavailable(String message, Map<String, DependencyStatus> dependencies) {
+    ApiResponse response =
+        new ApiResponse("error", HttpStatus.SERVICE_UNAVAILABLE.value(), message, dependencies, null);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+  }
 }
@@ -1,16 +1,17 @@
 package com.api.controller;
 
 import com.api.common.ApiResponse;
+import com.api.dto.request.BatchDeletePhotoRequest;
+import com.api.dto.request.BatchPutPhotoRequest;
+import com.api.dto.request.BatchUploadUrlRequest;
 import com.api.dto.request.PatchPhotoRequest;
 import com.api.dto.request.PutPhotoRequest;
-import com.api.dto.response.PhotoResponse;
 import com.api.service.PhotoService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -21,7 +22,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Controller for photo management endpoints.
+ * Controller for photo management endpoints. The gallery and single-photo reads live in
+ * {@link PhotoReadController} or {@link AsyncPhotoReadController}, depending on the DynamoDB
+ * client mode.
  */
 @RestController
 @RequestMapping("/v1")
@@ -35,23 +38,6 @@ public class PhotoController {
     this.photoService = photoService;
   }
 
-  /**
-   * Retrieves photos with pagination support.
-   *
-   * @param lastKey the last evaluated key for pagination (optional)
-   * @param page the page size
-   * @return paginated list of photos
-   */
-  @GetMapping("/images")
-  public ResponseEntity<PhotoResponse> getPhotos(
-      @RequestParam(value = "lastKey", required = false) String lastKey,
-      @RequestParam("page") Integer page) {
-    logger.info("Getting photos with lastKey={}, page={}", lastKey, page);
-
-    PhotoResponse response = photoService.getPhotos(lastKey, page);
-    return ResponseEntity.ok(response);
-  }
-
   /**
    * Generates a presigned URL for uploading a photo.
    *
@@ -61,12 +47,27 @@ public class PhotoController {
   @PutMapping("/images")
   public ResponseEntity<ApiResponse> getUploadUrl(
       @RequestParam("contentType") String contentType) {
-    logger.info("Generating upload URL for contentType={}", contentType);
+    logger.debug("Generating upload URL for contentType={}", contentType);
 
     ApiResponse response = photoService.generateUploadUrl(contentType);
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Generates presigned URLs for uploading several photos at once.
+   *
+   * @param request content types to sign, as a list and/or counts per type
+   * @return one presigned URL and image ID per file
+   */
+  @PutMapping("/images/batch")
+  public ResponseEntity<ApiResponse> getUploadUrls(
+      @Valid @RequestBody BatchUploadUrlRequest request) {
+    logger.debug("Generating batch upload URLs");
+
+    ApiResponse response = photoService.generateUploadUrls(request);
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Saves photo metadata after successful upload.
    *
@@ -76,12 +77,27 @@ public class PhotoController {
   @PostMapping("/images")
   public ResponseEntity<ApiResponse> savePhotoMetadata(
       @Valid @RequestBody PutPhotoRequest request) {
-    logger.info("Saving photo metadata for imageId={}", request.getImageID());
+    logger.debug("Saving photo metadata for imageId={}", request.getImageID());
 
     ApiResponse response = photoService.savePhotoMetadata(request);
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Saves metadata for several uploaded photos at once.
+   *
+   * @param request the photos' metadata
+   * @return per-photo status (saved, already exists, or not processed)
+   */
+  @PostMapping("/images/batch")
+  public ResponseEntity<ApiResponse> savePhotoMetadataBatch(
+      @Valid @RequestBody BatchPutPhotoRequest request) {
+    logger.debug("Saving photo metadata batch of {}", request.getPhotos().size());
+
+    ApiResponse response = photoService.savePhotoMetadataBatch(request);
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Updates photo metadata (e.g. display name). Used by edit metadata UI.
    *
@@ -93,7 +109,7 @@ public class PhotoController {
   public ResponseEntity<ApiResponse> updatePhotoMetadata(
       @PathVariable String imageId,
       @Valid @RequestBody PatchPhotoRequest request) {
-    logger.info("Updating photo metadata for imageId={}", imageId);
+    logger.debug("Updating photo metadata for imageId={}", imageId);
 
     ApiResponse response = photoService.updatePhotoMetadata(imageId, request);
     return ResponseEntity.ok(response);
@@ -107,9 +123,23 @@ public class PhotoController {
    */
   @DeleteMapping("/images/{imageId}")
   public ResponseEntity<ApiResponse> deletePhoto(@PathVariable String imageId) {
-    logger.info("Deleting photo with imageId={}", imageId);
+    logger.debug("Deleting photo with imageId={}", imageId);
 
     ApiResponse response = photoService.deletePhoto(imageId);
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * Soft-deletes several photos at once.
+   *
+   * @param request the image IDs to delete
+   * @return per-photo status (deleted, not found, or failed)
+   */
+  @PostMapping("/images/batch/delete")
+  public ResponseEntity<ApiResponse> deletePhotos(@Valid @RequestBody BatchDeletePhotoRequest request) {
+    logger.debug("Deleting {} photos", request.getImageIDs().size());
+
+    ApiResponse response = photoService.deletePhotos(request);
+    return ResponseEntity.ok(response);
+  }
 }
@@ -0,0 +1,63 @@
+package com.api.controller;
+
+import com.api.common.ApiResponse;
+import com.api.dto.response.PhotoResponse;
+import com.api.service.PhotoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for the photo read endpoints in the default blocking client mode. Reads are answered
+ * on the servlet thread, without an async dispatch.
+ */
+@RestController
+@RequestMapping("/v1")
+@ConditionalOnProperty(prefix = "app.aws", name = "dynamo-client-mode", havingValue = "blocking", matchIfMissing = true)
+public class PhotoReadController {
+
+  private static final Logger logger = LoggerFactory.getLogger(PhotoReadController.class);
+
+  private final PhotoService photoService;
+
+  public PhotoReadController(PhotoService photoService) {
+    this.photoService = photoService;
+  }
+
+  /**
+   * Retrieves photos with pagination support.
+   *
+   * @param lastKey the last evaluated key for pagination (optional)
+   * @param page the page size
+   * @return paginated list of photos
+   */
+  @GetMapping("/images")
+  public ResponseEntity<PhotoResponse> getPhotos(
+      @RequestParam(value = "lastKey", required = false) String lastKey,
+      @RequestParam("page") Integer page) {
+    logger.debug("Getting photos with lastKey={}, page={}", lastKey, page);
+
+    PhotoResponse response = photoService.getPhotos(lastKey, page);
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Retrieves a single photo by its ID.
+   *
+   * @param imageId the unique identifier of the photo
+   * @return photo metadata or error response
+   */
+  @GetMapping("/images/{imageId}")
+  public ResponseEntity<ApiResponse> getPhoto(@PathVariable String imageId) {
+    logger.debug("Getting photo with imageId={}", imageId);
+
+    ApiResponse response = photoService.getPhoto(imageId);
+    return ResponseEntity.ok(response);
+  }
+}
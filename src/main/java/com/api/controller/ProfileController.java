@@ -32,6 +32,19 @@ public class ProfileController {
     this.profileService = profileService;
   }
 
+  /**
+   * Gets the social links, site message, selfie URL and resume URL in one call.
+   *
+   * @return combined profile data for the homepage
+   */
+  @GetMapping("/profile")
+  public ResponseEntity<ApiResponse> getProfile() {
+    logger.debug("Getting profile");
+
+    ApiResponse response = profileService.getProfile();
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Gets the selfie/profile photo URL.
    *
@@ -39,7 +52,7 @@ public class ProfileController {
    */
   @GetMapping("/selfie")
   public ResponseEntity<ApiResponse> getSelfie() {
-    logger.info("Getting selfie URL");
+    logger.debug("Getting selfie URL");
 
     ApiResponse response = profileService.getSelfie();
     return ResponseEntity.ok(response);
@@ -54,7 +67,7 @@ public class ProfileController {
   @PutMapping("/selfie")
   public ResponseEntity<ApiResponse> getSelfieUploadUrl(
       @RequestParam("contentType") String contentType) {
-    logger.info("Generating selfie upload URL for contentType={}", contentType);
+    logger.debug("Generating selfie upload URL for contentType={}", contentType);
 
     ApiResponse response = profileService.getSelfieUploadUrl(contentType);
     return ResponseEntity.ok(response);
@@ -67,7 +80,7 @@ public class ProfileController {
    */
   @GetMapping("/resume")
   public ResponseEntity<ApiResponse> getResume() {
-    logger.info("Getting resume URL");
+    logger.debug("Getting resume URL");
 
     ApiResponse response = profileService.getResume();
     return ResponseEntity.ok(response);
@@ -80,7 +93,7 @@ public class ProfileController {
    */
   @PutMapping("/resume")
   public ResponseEntity<ApiResponse> getResumeUploadUrl() {
-    logger.info("Generating resume upload URL");
+    logger.debug("Generating resume upload URL");
 
     ApiResponse response = profileService.getResumeUploadUrl();
     return ResponseEntity.ok(response);
@@ -93,7 +106,7 @@ public class ProfileController {
    */
   @GetMapping("/social-links")
   public ResponseEntity<ApiResponse> getSocialLinks() {
-    logger.info("Getting social links");
+    logger.debug("Getting social links");
 
     ApiResponse response = profileService.getSocialLinks();
     return ResponseEntity.ok(response);
@@ -108,7 +121,7 @@ public class ProfileController {
   @PostMapping("/social-links")
   public ResponseEntity<ApiResponse> saveSocialLinks(
       @Valid @RequestBody SocialLinksRequest request) {
-    logger.info("Saving social links");
+    logger.debug("Saving social links");
 
     ApiResponse response = profileService.saveSocialLinks(request);
     return ResponseEntity.ok(response);
@@ -121,7 +134,7 @@ public class ProfileController {
    */
   @GetMapping("/site-message")
   public ResponseEntity<ApiResponse> getSiteMessage() {
-    logger.info("Getting site message");
+    logger.debug("Getting site message");
 
     ApiResponse response = profileService.getSiteMessage();
     return ResponseEntity.ok(response);
@@ -136,7 +149,7 @@ public class ProfileController {
   @PostMapping("/site-message")
   public ResponseEntity<ApiResponse> saveSiteMessage(
       @Valid @RequestBody SiteMessageRequest request) {
-    logger.info("Saving site message");
+    logger.debug("Saving site message");
 
     ApiResponse response = profileService.saveSiteMessage(request);
     return ResponseEntity.ok(response);
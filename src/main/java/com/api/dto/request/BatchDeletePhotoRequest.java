@@ -0,0 +1,30 @@
+package com.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for soft-deleting several photos at once.
+ */
+public class BatchDeletePhotoRequest {
+
+  @NotEmpty(message = "At least one image ID is required")
+  @Size(max = 1000, message = "At most 1000 image IDs per batch")
+  private List<String> imageIDs;
+
+  /** Default constructor for JSON deserialization. */
+  public BatchDeletePhotoRequest() {}
+
+  public BatchDeletePhotoRequest(List<String> imageIDs) {
+    this.imageIDs = imageIDs;
+  }
+
+  public List<String> getImageIDs() {
+    return imageIDs;
+  }
+
+  public void setImageIDs(List<String> imageIDs) {
+    this.imageIDs = imageIDs;
+  }
+}
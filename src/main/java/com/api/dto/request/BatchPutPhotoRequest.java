@@ -0,0 +1,33 @@
+package com.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for saving metadata of several uploaded photos at once.
+ * Each entry is validated like a single {@link PutPhotoRequest}.
+ */
+public class BatchPutPhotoRequest {
+
+  @NotEmpty(message = "At least one photo is required")
+  @Size(max = 500, message = "At most 500 photos per batch")
+  @Valid
+  private List<PutPhotoRequest> photos;
+
+  /** Default constructor for JSON deserialization. */
+  public BatchPutPhotoRequest() {}
+
+  public BatchPutPhotoRequest(List<PutPhotoRequest> photos) {
+    this.photos = photos;
+  }
+
+  public List<PutPhotoRequest> getPhotos() {
+    return photos;
+  }
+
+  public void setPhotos(List<PutPhotoRequest> photos) {
+    this.photos = photos;
+  }
+}
@@ -0,0 +1,43 @@
+package com.api.dto.request;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request DTO for minting several photo upload URLs at once.
+ * Either list each file's content type, or give a count per content type (or both).
+ */
+public class BatchUploadUrlRequest {
+
+  @Size(max = 500, message = "At most 500 content types per batch")
+  private List<String> contentTypes;
+
+  /** Number of URLs per content type, e.g. {"image/jpeg": 150, "image/png": 50}. */
+  @Size(max = 10, message = "At most 10 distinct content types per batch")
+  private Map<String, Integer> counts;
+
+  /** Default constructor for JSON deserialization. */
+  public BatchUploadUrlRequest() {}
+
+  public BatchUploadUrlRequest(List<String> contentTypes, Map<String, Integer> counts) {
+    this.contentTypes = contentTypes;
+    this.counts = counts;
+  }
+
+  public List<String> getContentTypes() {
+    return contentTypes;
+  }
+
+  public void setContentTypes(List<String> contentTypes) {
+    this.contentTypes = contentTypes;
+  }
+
+  public Map<String, Integer> getCounts() {
+    return counts;
+  }
+
+  public void setCounts(Map<String, Integer> counts) {
+    this.counts = counts;
+  }
+}
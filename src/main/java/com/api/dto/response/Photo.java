@@ -0,0 +1,23 @@
+package com.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A gallery photo as returned to clients. Attributes missing on the item are omitted from JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Photo(
+    String imageID,
+    String fileName,
+    String cloudFront,
+    String title,
+    String description,
+    String camera,
+    String lens,
+    String aperture,
+    String shutter,
+    String iso,
+    String focalLength,
+    String location,
+    String dateTaken,
+    String updatedAt) {}
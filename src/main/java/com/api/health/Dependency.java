@@ -0,0 +1,87 @@
+package com.api.health;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Health of one downstream dependency, derived from the outcomes of calls made to it. It is down
+ * after a number of consecutive failures and up again after one success. Recording an outcome is
+ * a couple of volatile writes, so it is safe on every real call.
+ */
+public class Dependency {
+
+  private static final Logger logger = LoggerFactory.getLogger(Dependency.class);
+
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final String name;
+  private final int failureThreshold;
+  private final long staleAfterNanos;
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long lastSuccessNanos = NEVER;
+  private volatile long lastFailureNanos = NEVER;
+  private volatile String lastError;
+
+  /**
+   * @param staleAfterNanos without any outcome for this long the status is reported as unknown
+   */
+  public Dependency(String name, int failureThreshold, long staleAfterNanos) {
+    this.name = name;
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.staleAfterNanos = staleAfterNanos;
+  }
+
+  public void recordSuccess() {
+    lastSuccessNanos = System.nanoTime();
+    if (consecutiveFailures.get() != 0 && consecutiveFailures.getAndSet(0) >= failureThreshold) {
+      logger.info("Dependency {} is reachable again", name);
+    }
+  }
+
+  public void recordFailure(Throwable failure) {
+    lastFailureNanos = System.nanoTime();
+    lastError = failure.getClass().getSimpleName();
+    if (consecutiveFailures.incrementAndGet() == failureThreshold) {
+      logger.warn("Dependency {} marked down after {} consecutive failures (last: {})",
+          name, failureThreshold, lastError);
+    }
+  }
+
+  public boolean isUp() {
+    return consecutiveFailures.get() < failureThreshold;
+  }
+
+  /**
+   * Point-in-time view for the health endpoints; "unknown" when nothing was observed recently.
+   */
+  public DependencyStatus status() {
+    long now = System.nanoTime();
+    long lastSuccess = lastSuccessNanos;
+    long lastFailure = lastFailureNanos;
+    long lastOutcome = Math.max(lastSuccess, lastFailure);
+    String status;
+    if (!isUp()) {
+      status = "down";
+    } else if (lastOutcome == NEVER || now - lastOutcome > staleAfterNanos) {
+      status = "unknown";
+    } else {
+      status = "up";
+    }
+    return new DependencyStatus(
+        status,
+        ageMillis(now, lastSuccess),
+        ageMillis(now, lastFailure),
+        consecutiveFailures.get(),
+        lastFailure == NEVER ? null : lastError);
+  }
+
+  private static Long ageMillis(long now, long then) {
+    return then == NEVER ? null : TimeUnit.NANOSECONDS.toMillis(now - then);
+  }
+
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,69 @@
+package com.api.health;
+
+import com.api.config.HealthProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health of the application's dependencies. Fed by real calls ({@link DependencyHealthInterceptor}
+ * for DynamoDB, presign timing for S3) and by the {@link DependencyProber} between them, so the
+ * health endpoints only read cached state and never call AWS themselves.
+ *
+ * <p>Published: gauge "dependency.up" (1 up, 0 down) tagged dependency.
+ */
+@Component
+public class DependencyHealth {
+
+  // Without any outcome for this many probe intervals the prober is assumed not to be running
+  private static final int STALE_INTERVALS = 4;
+
+  private final Dependency dynamoDb;
+  private final Dependency presigner;
+  private final boolean readinessRequiresDynamoDb;
+
+  public DependencyHealth(HealthProperties healthProperties, MeterRegistry meterRegistry) {
+    long staleAfterNanos = healthProperties.getProbeInterval().toNanos() * STALE_INTERVALS;
+    this.dynamoDb = register(
+        new Dependency("dynamodb", healthProperties.getFailureThreshold(), staleAfterNanos), meterRegistry);
+    this.presigner = register(
+        new Dependency("s3-presigner", healthProperties.getFailureThreshold(), staleAfterNanos), meterRegistry);
+    this.readinessRequiresDynamoDb = healthProperties.isReadinessRequiresDynamodb();
+  }
+
+  private static Dependency register(Dependency dependency, MeterRegistry meterRegistry) {
+    Gauge.builder("dependency.up", dependency, d -> d.isUp() ? 1 : 0)
+        .description("Whether the dependency is reachable, from recent calls and probes")
+        .tag("dependency", dependency.getName())
+        .register(meterRegistry);
+    return dependency;
+  }
+
+  public Dependency dynamoDb() {
+    return dynamoDb;
+  }
+
+  public Dependency presigner() {
+    return presigner;
+  }
+
+  /**
+   * Whether the dependencies needed to serve traffic are up. DynamoDB only counts when
+   * app.health.readiness-requires-dynamodb is set.
+   */
+  public boolean isReady() {
+    return presigner.isUp() && (!readinessRequiresDynamoDb || dynamoDb.isUp());
+  }
+
+  /**
+   * Status of every dependency by name.
+   */
+  public Map<String, DependencyStatus> statuses() {
+    Map<String, DependencyStatus> statuses = new LinkedHashMap<>();
+    statuses.put(dynamoDb.getName(), dynamoDb.status());
+    statuses.put(presigner.getName(), presigner.status());
+    return statuses;
+  }
+}
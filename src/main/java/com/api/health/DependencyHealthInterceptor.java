@@ -0,0 +1,42 @@
+package com.api.health;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Reports the outcome of every SDK call to a {@link Dependency}. Any response from the service,
+ * errors and throttling included, shows it is reachable; only 5xx responses and client-side
+ * failures (I/O, timeouts) count against it. Calls stopped on our side before reaching the
+ * service (open breaker, full bulkhead, spent deadline, cancelled hedge) are not counted.
+ */
+public class DependencyHealthInterceptor implements ExecutionInterceptor {
+
+  private final Dependency dependency;
+
+  public DependencyHealthInterceptor(Dependency dependency) {
+    this.dependency = dependency;
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    dependency.recordSuccess();
+  }
+
+  @Override
+  public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+    Throwable exception = context.exception();
+    if (exception instanceof AwsServiceException e) {
+      if (e.statusCode() >= 500 && !e.isThrottlingException()) {
+        dependency.recordFailure(e);
+      } else {
+        dependency.recordSuccess();
+      }
+    } else if (exception instanceof SdkClientException && !(exception instanceof AbortedException)) {
+      dependency.recordFailure(exception);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.api.health;
+
+import com.api.config.AwsProperties;
+import com.api.resilience.CircuitBreakerOpenException;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Probes the dependencies at app.health.probe-interval, so their health stays current while
+ * there is no traffic: one key-only GetItem on the profile table (half a read capacity unit) and
+ * one presign. The GetItem goes through the regular client, so its outcome is recorded by the
+ * {@link DependencyHealthInterceptor} like any other call; while the circuit breaker is open
+ * the probe counts as a failure, and it serves as a trial call once the breaker half-opens.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.health", name = "probe-enabled", havingValue = "true", matchIfMissing = true)
+public class DependencyProber {
+
+  private static final Logger logger = LoggerFactory.getLogger(DependencyProber.class);
+
+  private static final String PROFILE_KEY = "profileId";
+  private static final String PROFILE_ID = "main";
+  private static final String PROBE_KEY = "health-probe";
+
+  private final DynamoDbClient dynamoDbClient;
+  private final S3Presigner s3Presigner;
+  private final AwsProperties awsProperties;
+  private final DependencyHealth dependencyHealth;
+
+  public DependencyProber(
+      DynamoDbClient dynamoDbClient,
+      S3Presigner s3Presigner,
+      AwsProperties awsProperties,
+      DependencyHealth dependencyHealth) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.s3Presigner = s3Presigner;
+    this.awsProperties = awsProperties;
+    this.dependencyHealth = dependencyHealth;
+  }
+
+  @Scheduled(fixedDelayString = "${app.health.probe-interval:15s}")
+  public void probe() {
+    probeDynamoDb();
+    probePresigner();
+  }
+
+  private void probeDynamoDb() {
+    try {
+      dynamoDbClient.getItem(GetItemRequest.builder()
+          .tableName(awsProperties.getProfileTable())
+          .key(Map.of(PROFILE_KEY, AttributeValue.builder().s(PROFILE_ID).build()))
+          .projectionExpression(PROFILE_KEY)
+          .build());
+    } catch (CircuitBreakerOpenException e) {
+      dependencyHealth.dynamoDb().recordFailure(e);
+    } catch (SdkException e) {
+      // Already recorded by the interceptor
+      logger.debug("DynamoDB health probe failed: {}", e.getMessage());
+    } catch (RuntimeException e) {
+      // Stopped on our side (e.g. a full bulkhead); says nothing about DynamoDB
+      logger.debug("DynamoDB health probe skipped: {}", e.getMessage());
+    }
+  }
+
+  private void probePresigner() {
+    try {
+      s3Presigner.presignPutObject(
+          presign -> presign
+              .signatureDuration(Duration.ofMinutes(1))
+              .putObjectRequest(put -> put.bucket(awsProperties.getPhotosBucket()).key(PROBE_KEY)));
+      dependencyHealth.presigner().recordSuccess();
+    } catch (RuntimeException e) {
+      logger.debug("S3 presigner health probe failed: {}", e.getMessage());
+      dependencyHealth.presigner().recordFailure(e);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.api.health;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Health of a dependency as reported by the health endpoints.
+ *
+ * @param status up, down or unknown
+ * @param lastSuccessAgeMs time since the last successful call, null if none
+ * @param lastFailureAgeMs time since the last failed call, null if none
+ * @param consecutiveFailures failed calls since the last success
+ * @param lastError exception type of the last failure
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DependencyStatus(
+    String status, Long lastSuccessAgeMs, Long lastFailureAgeMs, int consecutiveFailures, String lastError) {}
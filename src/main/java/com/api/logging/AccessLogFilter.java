@@ -0,0 +1,91 @@
+package com.api.logging;
+
+import com.api.common.ClientAddressResolver;
+import com.api.config.LoggingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Writes one structured line per request to the "access" logger, e.g.
+ * {@code method=GET route=/v1/images/{imageId} path=/v1/images/abc status=200 durationMs=14 ip=203.0.113.7}.
+ *
+ * <p>Failed (4xx/5xx) and slow requests are always recorded; other requests are sampled at
+ * app.logging.access.success-sample-rate. Query strings are never logged. For async handlers
+ * the line is written when the final dispatch completes. Ordered ahead of the load-shedding
+ * filters, so requests they reject are logged too. The ip is resolved by
+ * {@link ClientAddressResolver}, so it matches the client the rate limiter counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "app.logging.access", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+  private static final Logger accessLogger = LoggerFactory.getLogger("access");
+  private static final String START_ATTRIBUTE = AccessLogFilter.class.getName() + ".START";
+
+  private final double successSampleRate;
+  private final long slowThresholdNanos;
+  private final ClientAddressResolver clientAddressResolver;
+
+  public AccessLogFilter(LoggingProperties loggingProperties, ClientAddressResolver clientAddressResolver) {
+    LoggingProperties.Access access = loggingProperties.getAccess();
+    this.successSampleRate = access.getSuccessSampleRate();
+    this.slowThresholdNanos = access.getSlowThreshold().toNanos();
+    this.clientAddressResolver = clientAddressResolver;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+    if (start == null) {
+      start = System.nanoTime();
+      request.setAttribute(START_ATTRIBUTE, start);
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (!isAsyncStarted(request)) {
+        log(request, response.getStatus(), System.nanoTime() - start);
+      }
+    }
+  }
+
+  private void log(HttpServletRequest request, int status, long durationNanos) {
+    if (!accessLogger.isInfoEnabled()) {
+      return;
+    }
+    boolean always = status >= 400 || durationNanos >= slowThresholdNanos;
+    if (!always && (successSampleRate <= 0
+        || (successSampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= successSampleRate))) {
+      return;
+    }
+    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    accessLogger.info("method={} route={} path={} status={} durationMs={} ip={}",
+        request.getMethod(),
+        route != null ? route : "-",
+        request.getRequestURI(),
+        status,
+        TimeUnit.NANOSECONDS.toMillis(durationNanos),
+        clientAddressResolver.resolve(request));
+  }
+}
@@ -0,0 +1,84 @@
+package com.api.logging;
+
+import com.api.config.LoggingProperties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs exceptions with their stack trace at most once per interval per distinct exception
+ * (type and throw site), so a storm of identical failures, e.g. DynamoDB throttling, does not
+ * format and write thousands of identical stack traces. Repeats inside the interval are only
+ * counted, and the count is reported with the next stack trace. Every failed request still gets
+ * an access log line.
+ */
+@Component
+public class ExceptionLogThrottle {
+
+  private static final int MAX_TRACKED = 1000;
+  private static final int SIGNATURE_FRAMES = 5;
+
+  /** When the last stack trace for a signature was written, and repeats since then. */
+  private static final class Window {
+    final AtomicLong loggedAt = new AtomicLong();
+    final AtomicLong suppressed = new AtomicLong();
+  }
+
+  private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+  private final long intervalNanos;
+
+  public ExceptionLogThrottle(LoggingProperties loggingProperties) {
+    this.intervalNanos = loggingProperties.getExceptionDedupInterval().toNanos();
+  }
+
+  /**
+   * Logs the exception at ERROR, with its stack trace unless an identical one was logged within
+   * the interval.
+   *
+   * @param logger the caller's logger
+   * @param message what failed; the exception message is appended
+   * @param ex the exception
+   */
+  public void error(Logger logger, String message, Throwable ex) {
+    if (intervalNanos <= 0) {
+      logger.error("{}: {}", message, ex.getMessage(), ex);
+      return;
+    }
+    if (windows.size() >= MAX_TRACKED) {
+      windows.clear();
+    }
+    Window window = windows.computeIfAbsent(signature(ex), k -> new Window());
+    long now = System.nanoTime();
+    long loggedAt = window.loggedAt.get();
+    if (loggedAt != 0 && now - loggedAt < intervalNanos) {
+      window.suppressed.incrementAndGet();
+      return;
+    }
+    if (!window.loggedAt.compareAndSet(loggedAt, now)) {
+      // Another thread is logging this exception right now
+      window.suppressed.incrementAndGet();
+      return;
+    }
+    long suppressed = window.suppressed.getAndSet(0);
+    if (suppressed > 0) {
+      logger.error("{}: {} ({} identical errors suppressed since last logged)",
+          message, ex.getMessage(), suppressed, ex);
+    } else {
+      logger.error("{}: {}", message, ex.getMessage(), ex);
+    }
+  }
+
+  private static String signature(Throwable ex) {
+    StringBuilder signature = new StringBuilder(ex.getClass().getName());
+    StackTraceElement[] frames = ex.getStackTrace();
+    for (int i = 0; i < Math.min(SIGNATURE_FRAMES, frames.length); i++) {
+      signature.append('|').append(frames[i].getClassName()).append('.').append(frames[i].getMethodName())
+          .append(':').append(frames[i].getLineNumber());
+    }
+    if (ex.getCause() != null) {
+      signature.append("|cause=").append(ex.getCause().getClass().getName());
+    }
+    return signature.toString();
+  }
+}
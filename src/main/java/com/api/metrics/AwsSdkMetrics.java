@@ -0,0 +1,208 @@
+package com.api.metrics;
+
+import com.api.health.Dependency;
+import com.api.health.DependencyHealth;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Bridges AWS SDK call metrics into Micrometer. Registered as a {@link MetricPublisher} on the
+ * DynamoDB clients; S3 presigning makes no API call, so it is timed through {@link #timePresign}.
+ *
+ * <p>Meters (tags service, operation):
+ * <ul>
+ *   <li>"aws.api.calls" - API call latency including retries, tagged outcome=success|failure</li>
+ *   <li>"aws.api.attempts" - latency of each HTTP attempt</li>
+ *   <li>"aws.api.retries" - retries beyond the first attempt</li>
+ *   <li>"aws.api.errors" - failed attempts tagged type (Throttling, ServerSideError, IO, ...)</li>
+ *   <li>"aws.http.pool.acquire" - time waiting for a pooled connection (tag service only)</li>
+ *   <li>gauges "aws.http.pool.leased|available|pending|max" - pool state at the last call</li>
+ *   <li>"aws.presign" - presigning latency, tagged operation</li>
+ * </ul>
+ */
+@Component
+public class AwsSdkMetrics implements MetricPublisher {
+
+  private static final String UNKNOWN = "unknown";
+
+  private record CallKey(String service, String operation, String extra) {}
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentHashMap<CallKey, Timer> callTimers = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CallKey, Timer> attemptTimers = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CallKey, Counter> retryCounters = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CallKey, Counter> errorCounters = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CallKey, AtomicInteger> poolGauges = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Timer> presignTimers = new ConcurrentHashMap<>();
+  private final Dependency presigner;
+
+  public AwsSdkMetrics(MeterRegistry meterRegistry, DependencyHealth dependencyHealth) {
+    this.meterRegistry = meterRegistry;
+    this.presigner = dependencyHealth.presigner();
+  }
+
+  @Override
+  public void publish(MetricCollection metrics) {
+    String service = first(metrics, CoreMetric.SERVICE_ID, UNKNOWN);
+    String operation = first(metrics, CoreMetric.OPERATION_NAME, UNKNOWN);
+
+    Duration duration = first(metrics, CoreMetric.API_CALL_DURATION, null);
+    if (duration != null) {
+      String outcome = Boolean.TRUE.equals(first(metrics, CoreMetric.API_CALL_SUCCESSFUL, null)) ? "success" : "failure";
+      callTimers
+          .computeIfAbsent(new CallKey(service, operation, outcome), k ->
+              Timer.builder("aws.api.calls")
+                  .description("AWS API call latency, retries included")
+                  .tags("service", k.service(), "operation", k.operation(), "outcome", k.extra())
+                  .publishPercentileHistogram()
+                  .register(meterRegistry))
+          .record(duration);
+    }
+
+    int retries = first(metrics, CoreMetric.RETRY_COUNT, 0);
+    if (retries > 0) {
+      retryCounters
+          .computeIfAbsent(new CallKey(service, operation, null), k ->
+              Counter.builder("aws.api.retries")
+                  .description("AWS API attempts beyond the first")
+                  .tags("service", k.service(), "operation", k.operation())
+                  .register(meterRegistry))
+          .increment(retries);
+    }
+
+    metrics.children().stream()
+        .filter(child -> "ApiCallAttempt".equals(child.name()))
+        .forEach(attempt -> publishAttempt(service, operation, attempt));
+  }
+
+  private void publishAttempt(String service, String operation, MetricCollection attempt) {
+    Duration serviceCall = first(attempt, CoreMetric.SERVICE_CALL_DURATION, null);
+    if (serviceCall != null) {
+      attemptTimers
+          .computeIfAbsent(new CallKey(service, operation, null), k ->
+              Timer.builder("aws.api.attempts")
+                  .description("Latency of a single AWS HTTP attempt")
+                  .tags("service", k.service(), "operation", k.operation())
+                  .register(meterRegistry))
+          .record(serviceCall);
+    }
+
+    String errorType = first(attempt, CoreMetric.ERROR_TYPE, null);
+    if (errorType != null) {
+      errorCounters
+          .computeIfAbsent(new CallKey(service, operation, errorType), k ->
+              Counter.builder("aws.api.errors")
+                  .description("Failed AWS attempts by error type")
+                  .tags("service", k.service(), "operation", k.operation(), "type", k.extra())
+                  .register(meterRegistry))
+          .increment();
+    }
+
+    for (MetricCollection http : attempt.children()) {
+      if (!"HttpClient".equals(http.name())) {
+        continue;
+      }
+      Duration acquire = first(http, HttpMetric.CONCURRENCY_ACQUIRE_DURATION, null);
+      if (acquire != null) {
+        acquireTimers
+            .computeIfAbsent(service, s ->
+                Timer.builder("aws.http.pool.acquire")
+                    .description("Time waiting for a pooled AWS HTTP connection")
+                    .tag("service", s)
+                    .register(meterRegistry))
+            .record(acquire);
+      }
+      setPoolGauge(service, "leased", first(http, HttpMetric.LEASED_CONCURRENCY, null));
+      setPoolGauge(service, "available", first(http, HttpMetric.AVAILABLE_CONCURRENCY, null));
+      setPoolGauge(service, "pending", first(http, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, null));
+      setPoolGauge(service, "max", first(http, HttpMetric.MAX_CONCURRENCY, null));
+    }
+  }
+
+  private void setPoolGauge(String service, String state, Integer value) {
+    if (value == null) {
+      return;
+    }
+    poolGauges
+        .computeIfAbsent(new CallKey(service, null, state), k -> {
+          AtomicInteger holder = new AtomicInteger();
+          Gauge.builder("aws.http.pool." + k.extra(), holder, AtomicInteger::get)
+              .description("AWS HTTP connection pool " + k.extra() + " connections, as of the last call")
+              .tag("service", k.service())
+              .register(meterRegistry);
+          return holder;
+        })
+        .set(value);
+  }
+
+  /**
+   * Times a presign call, also reporting it to the request's {@link ServerTiming} and as a
+   * {@link PresignJfrEvent} when those are active, and its outcome to the presigner's health.
+   *
+   * @param operation the presigned operation, e.g. PutObject
+   * @param presign performs the presign
+   * @return the presign result
+   */
+  public <T> T timePresign(String operation, Supplier<T> presign) {
+    Timer timer = presignTimers.computeIfAbsent(operation, op ->
+        Timer.builder("aws.presign")
+            .description("S3 presigning latency")
+            .tag("operation", op)
+            .register(meterRegistry));
+    ServerTiming timing = ServerTiming.current();
+    PresignJfrEvent event = new PresignJfrEvent();
+    if (timing == null && !event.isEnabled()) {
+      return record(timer, presign);
+    }
+    long start = System.nanoTime();
+    event.begin();
+    try {
+      return record(timer, presign);
+    } finally {
+      if (timing != null) {
+        timing.recordPresign(System.nanoTime() - start);
+      }
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = operation;
+        event.endpoint = EndpointContext.current();
+        event.commit();
+      }
+    }
+  }
+
+  private <T> T record(Timer timer, Supplier<T> presign) {
+    try {
+      T result = timer.record(presign);
+      presigner.recordSuccess();
+      return result;
+    } catch (RuntimeException e) {
+      presigner.recordFailure(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() {
+    // Meters belong to the registry
+  }
+
+  private static <T> T first(MetricCollection metrics, SdkMetric<T> metric, T fallback) {
+    List<T> values = metrics.metricValues(metric);
+    return values.isEmpty() ? fallback : values.get(0);
+  }
+}
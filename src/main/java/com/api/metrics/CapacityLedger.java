@@ -0,0 +1,110 @@
+package com.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Running totals of DynamoDB consumed capacity per endpoint, table and read/write type.
+ *
+ * <p>Totals are also published as the counter "dynamodb.consumed.capacity" (tags endpoint,
+ * table, type), so rates come from the metrics backend. The in-memory totals behind the admin
+ * endpoint can be reset to measure one code path before and after a change.
+ */
+@Component
+public class CapacityLedger {
+
+  /** One aggregated row of the ledger. */
+  public record Entry(
+      String endpoint,
+      String table,
+      String type,
+      long calls,
+      double capacityUnits,
+      double unitsPerCall,
+      double unitsPerSecond) {}
+
+  private record Key(String endpoint, String table, String type) {}
+
+  private static final class Tally {
+    final LongAdder calls = new LongAdder();
+    final DoubleAdder units = new DoubleAdder();
+    final Counter counter;
+
+    Tally(Counter counter) {
+      this.counter = counter;
+    }
+  }
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentHashMap<Key, Tally> tallies = new ConcurrentHashMap<>();
+  private volatile long sinceNanos = System.nanoTime();
+
+  public CapacityLedger(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Adds the capacity consumed by one DynamoDB call.
+   *
+   * @param endpoint the endpoint that issued the call
+   * @param table the table the capacity was consumed on
+   * @param type "read" or "write"
+   * @param units consumed capacity units
+   */
+  public void record(String endpoint, String table, String type, double units) {
+    Tally tally =
+        tallies.computeIfAbsent(
+            new Key(endpoint, table, type),
+            k -> new Tally(
+                Counter.builder("dynamodb.consumed.capacity")
+                    .description("DynamoDB capacity units consumed")
+                    .baseUnit("capacity_units")
+                    .tags("endpoint", k.endpoint(), "table", k.table(), "type", k.type())
+                    .register(meterRegistry)));
+    tally.calls.increment();
+    tally.units.add(units);
+    tally.counter.increment(units);
+  }
+
+  /**
+   * Returns the totals since start (or the last reset), most expensive first.
+   */
+  public List<Entry> snapshot() {
+    double seconds = windowSeconds();
+    List<Entry> entries = new ArrayList<>(tallies.size());
+    tallies.forEach((key, tally) -> {
+      long calls = tally.calls.sum();
+      double units = tally.units.sum();
+      entries.add(new Entry(
+          key.endpoint(), key.table(), key.type(), calls, units,
+          calls == 0 ? 0 : units / calls, units / seconds));
+    });
+    entries.sort(Comparator.comparingDouble(Entry::capacityUnits).reversed());
+    return entries;
+  }
+
+  /**
+   * Zeroes the in-memory totals. Published counters keep counting.
+   */
+  public void reset() {
+    tallies.values().forEach(tally -> {
+      tally.calls.reset();
+      tally.units.reset();
+    });
+    sinceNanos = System.nanoTime();
+  }
+
+  /**
+   * Seconds covered by the current totals.
+   */
+  public double windowSeconds() {
+    return Math.max(1e-9, (System.nanoTime() - sinceNanos) / 1e9);
+  }
+}
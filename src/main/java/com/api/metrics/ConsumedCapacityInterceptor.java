@@ -0,0 +1,113 @@
+package com.api.metrics;
+
+import java.util.List;
+import java.util.Set;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+/**
+ * Requests consumed capacity on every DynamoDB call that supports it (unless the caller already
+ * chose a mode) and records what each call consumed in the {@link CapacityLedger}, attributed to
+ * the endpoint that issued it.
+ */
+public class ConsumedCapacityInterceptor implements ExecutionInterceptor {
+
+  private static final ExecutionAttribute<String> ENDPOINT = new ExecutionAttribute<>("CapacityEndpoint");
+  private static final Set<String> READ_OPERATIONS =
+      Set.of("GetItem", "BatchGetItem", "Query", "Scan", "TransactGetItems");
+
+  private final CapacityLedger capacityLedger;
+
+  public ConsumedCapacityInterceptor(CapacityLedger capacityLedger) {
+    this.capacityLedger = capacityLedger;
+  }
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    // Runs on the calling thread, where the request's endpoint is still known
+    executionAttributes.putAttribute(ENDPOINT, EndpointContext.current());
+  }
+
+  @Override
+  public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+    SdkRequest request = context.request();
+    ReturnConsumedCapacity total = ReturnConsumedCapacity.TOTAL;
+    if (request instanceof GetItemRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof PutItemRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof UpdateItemRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof DeleteItemRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof QueryRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof ScanRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof BatchGetItemRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof BatchWriteItemRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof TransactGetItemsRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    if (request instanceof TransactWriteItemsRequest r && r.returnConsumedCapacity() == null) {
+      return r.toBuilder().returnConsumedCapacity(total).build();
+    }
+    return request;
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    // Single-table calls return one ConsumedCapacity, batch and transaction calls a list
+    Object consumed = context.response().getValueForField("ConsumedCapacity", Object.class).orElse(null);
+    if (consumed == null) {
+      return;
+    }
+
+    String endpoint = executionAttributes.getAttribute(ENDPOINT);
+    String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    String type = READ_OPERATIONS.contains(operation) ? "read" : "write";
+    if (consumed instanceof ConsumedCapacity capacity) {
+      record(endpoint, type, capacity);
+    } else if (consumed instanceof List<?> capacities) {
+      for (Object capacity : capacities) {
+        if (capacity instanceof ConsumedCapacity c) {
+          record(endpoint, type, c);
+        }
+      }
+    }
+  }
+
+  private void record(String endpoint, String type, ConsumedCapacity capacity) {
+    if (capacity.capacityUnits() == null) {
+      return;
+    }
+    String table = capacity.tableName() == null ? "unknown" : capacity.tableName();
+    capacityLedger.record(endpoint == null ? EndpointContext.NONE : endpoint, table, type, capacity.capacityUnits());
+  }
+}
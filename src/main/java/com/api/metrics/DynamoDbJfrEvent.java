@@ -0,0 +1,44 @@
+package com.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one DynamoDB API call, retries included. The event is committed by the
+ * thread that completes the call, which is an SDK thread for the async client.
+ */
+@Name("com.api.DynamoDbCall")
+@Label("DynamoDB Call")
+@Category({"API", "AWS"})
+@Description("A DynamoDB API call, including retries")
+@StackTrace(false)
+public class DynamoDbJfrEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Table")
+  String table;
+
+  @Label("Endpoint")
+  @Description("Endpoint of the request that issued the call")
+  String endpoint;
+
+  @Label("Items")
+  @Description("Items returned")
+  int items;
+
+  @Label("Consumed Capacity")
+  @Description("Capacity units consumed, across tables")
+  double consumedCapacity;
+
+  @Label("Retries")
+  int retries;
+
+  @Label("Succeeded")
+  boolean succeeded;
+}
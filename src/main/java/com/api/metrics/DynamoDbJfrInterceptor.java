@@ -0,0 +1,117 @@
+package com.api.metrics;
+
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+/**
+ * Emits a {@link DynamoDbJfrEvent} per DynamoDB call. Does nothing unless a recording has the
+ * event enabled.
+ */
+public class DynamoDbJfrInterceptor implements ExecutionInterceptor {
+
+  private static final ExecutionAttribute<DynamoDbJfrEvent> EVENT = new ExecutionAttribute<>("DynamoDbJfrEvent");
+  private static final ExecutionAttribute<Integer> ATTEMPTS = new ExecutionAttribute<>("DynamoDbJfrAttempts");
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    DynamoDbJfrEvent event = new DynamoDbJfrEvent();
+    if (!event.isEnabled()) {
+      return;
+    }
+    event.begin();
+    event.endpoint = EndpointContext.current();
+    event.table = tableOf(context.request());
+    executionAttributes.putAttribute(EVENT, event);
+    executionAttributes.putAttribute(ATTEMPTS, 0);
+  }
+
+  @Override
+  public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+    Integer attempts = executionAttributes.getAttribute(ATTEMPTS);
+    if (attempts != null) {
+      executionAttributes.putAttribute(ATTEMPTS, attempts + 1);
+    }
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    DynamoDbJfrEvent event = executionAttributes.getAttribute(EVENT);
+    if (event == null) {
+      return;
+    }
+    SdkResponse response = context.response();
+    event.items = itemsOf(response);
+    event.consumedCapacity = capacityOf(response);
+    event.succeeded = true;
+    commit(event, executionAttributes);
+  }
+
+  @Override
+  public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+    DynamoDbJfrEvent event = executionAttributes.getAttribute(EVENT);
+    if (event != null) {
+      commit(event, executionAttributes);
+    }
+  }
+
+  private static void commit(DynamoDbJfrEvent event, ExecutionAttributes executionAttributes) {
+    executionAttributes.putAttribute(EVENT, null);
+    event.end();
+    if (event.shouldCommit()) {
+      event.operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+      event.retries = Math.max(0, executionAttributes.getAttribute(ATTEMPTS) - 1);
+      event.commit();
+    }
+  }
+
+  private static String tableOf(SdkRequest request) {
+    String table = request.getValueForField("TableName", String.class).orElse(null);
+    if (table != null) {
+      return table;
+    }
+    // Batch calls key their request items by table name
+    return request.getValueForField("RequestItems", Map.class)
+        .map(items -> String.join(",", ((Map<?, ?>) items).keySet().stream().map(String::valueOf).toList()))
+        .orElse("");
+  }
+
+  private static int itemsOf(SdkResponse response) {
+    Integer count = response.getValueForField("Count", Integer.class).orElse(null);
+    if (count != null) {
+      return count;
+    }
+    if (response.getValueForField("Item", Map.class).filter(item -> !item.isEmpty()).isPresent()) {
+      return 1;
+    }
+    // BatchGetItem: items per table
+    return response.getValueForField("Responses", Map.class)
+        .map(tables -> ((Map<?, ?>) tables).values().stream()
+            .mapToInt(items -> items instanceof List<?> list ? list.size() : 0)
+            .sum())
+        .orElse(0);
+  }
+
+  private static double capacityOf(SdkResponse response) {
+    Object consumed = response.getValueForField("ConsumedCapacity", Object.class).orElse(null);
+    if (consumed instanceof ConsumedCapacity capacity) {
+      return capacity.capacityUnits() == null ? 0 : capacity.capacityUnits();
+    }
+    double total = 0;
+    if (consumed instanceof List<?> capacities) {
+      for (Object capacity : capacities) {
+        if (capacity instanceof ConsumedCapacity c && c.capacityUnits() != null) {
+          total += c.capacityUnits();
+        }
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,47 @@
+package com.api.metrics;
+
+/**
+ * The endpoint (HTTP method and route pattern) the current thread is serving, e.g.
+ * "GET /v1/images/{imageId}". Set by {@link EndpointContextInterceptor} for the duration of a
+ * request and carried to other threads explicitly through {@link com.api.common.RequestContext}.
+ */
+public final class EndpointContext {
+
+  /** Reported for work outside any request (startup warmup, health probes). */
+  public static final String NONE = "none";
+
+  // Not inheritable: pooled SDK and Netty threads would keep the endpoint of the request that created them
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  // Private constructor to prevent instantiation
+  private EndpointContext() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  public static String current() {
+    String endpoint = CURRENT.get();
+    return endpoint == null ? NONE : endpoint;
+  }
+
+  static void set(String endpoint) {
+    CURRENT.set(endpoint);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Binds an endpoint (or none) to this thread, returning the one bound before; for carrying a
+   * request's endpoint to work on another thread.
+   */
+  public static String swap(String endpoint) {
+    String previous = CURRENT.get();
+    if (endpoint == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(endpoint);
+    }
+    return previous;
+  }
+}
@@ -0,0 +1,38 @@
+package com.api.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Publishes the matched route of each request as the {@link EndpointContext}, and marks the
+ * start of handler execution in the request's {@link ServerTiming} when one is collected.
+ */
+@Component
+public class EndpointContextInterceptor implements AsyncHandlerInterceptor {
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    EndpointContext.set(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+    ServerTiming timing = ServerTiming.current();
+    if (timing != null) {
+      timing.markHandlerStart();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    EndpointContext.clear();
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    EndpointContext.clear();
+  }
+}
@@ -0,0 +1,23 @@
+package com.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one S3 presign operation.
+ */
+@Name("com.api.Presign")
+@Label("S3 Presign")
+@Category({"API", "AWS"})
+@StackTrace(false)
+public class PresignJfrEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Endpoint")
+  String endpoint;
+}
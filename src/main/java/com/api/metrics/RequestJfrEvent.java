@@ -0,0 +1,26 @@
+package com.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one HTTP request, from the servlet filter chain to the written response.
+ */
+@Name("com.api.Request")
+@Label("HTTP Request")
+@Category({"API", "HTTP"})
+@Description("An HTTP request served by the API")
+@StackTrace(false)
+public class RequestJfrEvent extends Event {
+
+  @Label("Endpoint")
+  @Description("HTTP method and matched route, e.g. GET /v1/images")
+  String endpoint;
+
+  @Label("Status")
+  int status;
+}
@@ -0,0 +1,55 @@
+package com.api.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits a {@link RequestJfrEvent} per request. For async handlers the event is kept in a request
+ * attribute and committed when the final dispatch completes. Does nothing unless a recording has
+ * the event enabled.
+ */
+@Component
+public class RequestJfrFilter extends OncePerRequestFilter {
+
+  private static final String EVENT_ATTRIBUTE = RequestJfrFilter.class.getName() + ".EVENT";
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestJfrEvent event = (RequestJfrEvent) request.getAttribute(EVENT_ATTRIBUTE);
+    if (event == null) {
+      event = new RequestJfrEvent();
+      if (isAsyncDispatch(request) || !event.isEnabled()) {
+        filterChain.doFilter(request, response);
+        return;
+      }
+      event.begin();
+      request.setAttribute(EVENT_ATTRIBUTE, event);
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (!isAsyncStarted(request)) {
+        event.end();
+        if (event.shouldCommit()) {
+          Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+          event.endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+          event.status = response.getStatus();
+          event.commit();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.api.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-request latency breakdown emitted as a {@code Server-Timing} response header.
+ *
+ * <p>Bound to the request thread by {@link ServerTimingFilter} only when
+ * app.server-timing.enabled=true, and carried to other threads explicitly through
+ * {@link com.api.common.RequestContext}; otherwise {@link #current()} is null and every
+ * recording site reduces to one thread-local read. Recorded phases may overlap when calls run concurrently,
+ * so "app" (handler time not spent in validation, AWS calls or presigning) is clamped at zero.
+ */
+public final class ServerTiming {
+
+  public static final String HEADER = "Server-Timing";
+
+  // Not inheritable: pooled SDK and Netty threads would keep (and write into) a finished request's collector
+  private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+  /** Accumulated duration and count of one kind of call. */
+  private static final class Phase {
+    final LongAdder count = new LongAdder();
+    final LongAdder nanos = new LongAdder();
+
+    void add(long elapsedNanos) {
+      count.increment();
+      nanos.add(elapsedNanos);
+    }
+  }
+
+  private final long startNanos = System.nanoTime();
+  private final Phase validation = new Phase();
+  private final Phase dynamoDb = new Phase();
+  private final Phase presign = new Phase();
+  private volatile long handlerStartNanos;
+  private volatile long writeStartNanos;
+
+  /**
+   * Returns the collector of the request served by this thread, or null when disabled.
+   */
+  public static ServerTiming current() {
+    return CURRENT.get();
+  }
+
+  static void bind(ServerTiming timing) {
+    CURRENT.set(timing);
+  }
+
+  static void unbind() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Binds a collector (or none) to this thread, returning the one bound before; for carrying a
+   * request's collector to work on another thread.
+   */
+  public static ServerTiming swap(ServerTiming timing) {
+    ServerTiming previous = CURRENT.get();
+    if (timing == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(timing);
+    }
+    return previous;
+  }
+
+  public void recordValidation(long elapsedNanos) {
+    validation.add(elapsedNanos);
+  }
+
+  public void recordDynamoDb(long elapsedNanos) {
+    dynamoDb.add(elapsedNanos);
+  }
+
+  public void recordPresign(long elapsedNanos) {
+    presign.add(elapsedNanos);
+  }
+
+  /** Marks the start of handler execution (argument binding, validation, controller, service). */
+  void markHandlerStart() {
+    if (handlerStartNanos == 0) {
+      handlerStartNanos = System.nanoTime();
+    }
+  }
+
+  /** Marks the point the handler's result is handed to the message converter. */
+  void markWriteStart() {
+    writeStartNanos = System.nanoTime();
+  }
+
+  /**
+   * Formats the header value, e.g.
+   * {@code validation;dur=0.2, db;desc="2 calls";dur=31.4, app;dur=1.1, serialize;dur=0.3, total;dur=33.5}.
+   */
+  String toHeader(long endNanos) {
+    StringBuilder header = new StringBuilder(160);
+    long spent = 0;
+    spent += append(header, "validation", validation);
+    spent += append(header, "db", dynamoDb);
+    spent += append(header, "presign", presign);
+
+    long writeStart = writeStartNanos != 0 ? writeStartNanos : endNanos;
+    if (handlerStartNanos != 0) {
+      appendDuration(header, "app", null, Math.max(0, writeStart - handlerStartNanos - spent));
+    }
+    if (writeStartNanos != 0) {
+      appendDuration(header, "serialize", null, endNanos - writeStartNanos);
+    }
+    appendDuration(header, "total", null, endNanos - startNanos);
+    return header.toString();
+  }
+
+  private static long append(StringBuilder header, String name, Phase phase) {
+    long count = phase.count.sum();
+    if (count == 0) {
+      return 0;
+    }
+    long nanos = phase.nanos.sum();
+    appendDuration(header, name, count == 1 ? null : count + " calls", nanos);
+    return nanos;
+  }
+
+  private static void appendDuration(StringBuilder header, String name, String desc, long nanos) {
+    if (header.length() > 0) {
+      header.append(", ");
+    }
+    header.append(name);
+    if (desc != null) {
+      header.append(";desc=\"").append(desc).append('"');
+    }
+    header.append(";dur=").append(String.format(Locale.ROOT, "%.1f", nanos / 1e6));
+  }
+}
@@ -0,0 +1,38 @@
+package com.api.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks where handler work ends and response serialization begins in the {@link ServerTiming}.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingBodyAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    ServerTiming timing = ServerTiming.current();
+    if (timing != null) {
+      timing.markWriteStart();
+    }
+    return body;
+  }
+}
@@ -0,0 +1,75 @@
+package com.api.metrics;
+
+import com.api.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Collects a {@link ServerTiming} for every /v1 request and adds it as a header.
+ *
+ * <p>The body is buffered so the header, which must precede it, can include serialization time.
+ * For async handlers the collector lives in a request attribute across dispatches and the header
+ * is written when the final dispatch completes. Only registered when app.server-timing.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  private static final String TIMING_ATTRIBUTE = ServerTimingFilter.class.getName() + ".TIMING";
+
+  private final String timingAllowOrigin;
+
+  public ServerTimingFilter(ServerTimingProperties serverTimingProperties) {
+    this.timingAllowOrigin = serverTimingProperties.getTimingAllowOrigin();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith("/v1/");
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ServerTiming timing = (ServerTiming) request.getAttribute(TIMING_ATTRIBUTE);
+    if (timing == null) {
+      timing = new ServerTiming();
+      request.setAttribute(TIMING_ATTRIBUTE, timing);
+    }
+    HttpServletResponse responseToUse = response;
+    if (!isAsyncDispatch(request) && !(response instanceof ContentCachingResponseWrapper)) {
+      responseToUse = new ContentCachingResponseWrapper(response);
+    }
+
+    ServerTiming.bind(timing);
+    try {
+      filterChain.doFilter(request, responseToUse);
+    } finally {
+      ServerTiming.unbind();
+      if (!isAsyncStarted(request)) {
+        ContentCachingResponseWrapper wrapper =
+            WebUtils.getNativeResponse(responseToUse, ContentCachingResponseWrapper.class);
+        if (wrapper != null) {
+          wrapper.setHeader(ServerTiming.HEADER, timing.toHeader(System.nanoTime()));
+          if (!timingAllowOrigin.isEmpty()) {
+            wrapper.setHeader("Timing-Allow-Origin", timingAllowOrigin);
+          }
+          wrapper.copyBodyToResponse();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.api.metrics;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Adds the duration of each DynamoDB call to the issuing request's {@link ServerTiming}.
+ * The collector is captured on the calling thread, so async completions are attributed too.
+ */
+public class ServerTimingSdkInterceptor implements ExecutionInterceptor {
+
+  private static final ExecutionAttribute<ServerTiming> TIMING = new ExecutionAttribute<>("ServerTiming");
+  private static final ExecutionAttribute<Long> START = new ExecutionAttribute<>("ServerTimingStart");
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    ServerTiming timing = ServerTiming.current();
+    if (timing != null) {
+      executionAttributes.putAttribute(TIMING, timing);
+      executionAttributes.putAttribute(START, System.nanoTime());
+    }
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    record(executionAttributes);
+  }
+
+  @Override
+  public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+    record(executionAttributes);
+  }
+
+  private static void record(ExecutionAttributes executionAttributes) {
+    ServerTiming timing = executionAttributes.getAttribute(TIMING);
+    if (timing != null) {
+      executionAttributes.putAttribute(TIMING, null);
+      timing.recordDynamoDb(System.nanoTime() - executionAttributes.getAttribute(START));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.api.metrics;
+
+import java.util.function.Supplier;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * MVC validator that adds bean-validation time to the request's {@link ServerTiming}.
+ */
+public class TimedValidator implements SmartValidator {
+
+  private final Supplier<? extends SmartValidator> delegate;
+
+  /**
+   * @param delegate supplies the application's validator; resolved lazily, on first use
+   */
+  public TimedValidator(Supplier<? extends SmartValidator> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean supports(Class<?> clazz) {
+    return delegate.get().supports(clazz);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    timed(() -> delegate.get().validate(target, errors));
+  }
+
+  @Override
+  public void validate(Object target, Errors errors, Object... validationHints) {
+    timed(() -> delegate.get().validate(target, errors, validationHints));
+  }
+
+  private static void timed(Runnable validation) {
+    ServerTiming timing = ServerTiming.current();
+    if (timing == null) {
+      validation.run();
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      validation.run();
+    } finally {
+      timing.recordValidation(System.nanoTime() - start);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.api.resilience;
+
+import com.api.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Concurrency limit that adapts to latency, after the gradient approach: a fast average of
+ * request latency is compared with a slow long-term baseline. While latency stays within
+ * tolerance x baseline the limit grows by about sqrt(limit) per sample; as latency climbs past
+ * it the limit shrinks in proportion (at most halving), so queueing is cut before threads and
+ * connections run out. The limit only grows while at least half of it is in use.
+ *
+ * <p>Reads may only fill readShare of the limit, keeping the rest for writes.
+ *
+ * <p>Published: gauges "concurrency.limit" and "concurrency.inflight", and "concurrency.shed"
+ * tagged priority=read|write.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyLimiter {
+
+  // Samples the long-term baseline averages over
+  private static final double LONG_WINDOW = 600;
+  // Weight of each sample in the short-term average
+  private static final double SHORT_WEIGHT = 0.1;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double smoothing;
+  private final double readShare;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter shedReads;
+  private final Counter shedWrites;
+
+  private volatile double limit;
+  // Guarded by this
+  private double shortRttNanos;
+  private double longRttNanos;
+
+  public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    this.minLimit = Math.max(1, properties.getMinLimit());
+    this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+    this.tolerance = Math.max(1, properties.getTolerance());
+    this.smoothing = Math.min(1, Math.max(0.01, properties.getSmoothing()));
+    this.readShare = Math.min(1, Math.max(0, properties.getReadShare()));
+    this.limit = Math.min(maxLimit, Math.max(minLimit, properties.getInitialLimit()));
+
+    Gauge.builder("concurrency.limit", this, l -> l.limit)
+        .description("Current adaptive limit on concurrent requests")
+        .register(meterRegistry);
+    Gauge.builder("concurrency.inflight", inFlight, AtomicInteger::get)
+        .description("Requests currently admitted by the limiter")
+        .register(meterRegistry);
+    this.shedReads = shedCounter(meterRegistry, "read");
+    this.shedWrites = shedCounter(meterRegistry, "write");
+  }
+
+  private static Counter shedCounter(MeterRegistry meterRegistry, String priority) {
+    return Counter.builder("concurrency.shed")
+        .description("Requests rejected because the concurrency limit was reached")
+        .tag("priority", priority)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Admits a request if it fits under the limit. Every admitted request must be followed by
+   * {@link #release}.
+   *
+   * @param write whether the request is a write, which may use the whole limit
+   * @return false if the request should be shed
+   */
+  public boolean tryAcquire(boolean write) {
+    int allowed = write ? (int) limit : Math.max(1, (int) (limit * readShare));
+    while (true) {
+      int current = inFlight.get();
+      if (current >= allowed) {
+        (write ? shedWrites : shedReads).increment();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases an admitted request.
+   *
+   * @param latencyNanos how long the request took
+   * @param sample whether the latency reflects normal processing (false for fast failures,
+   *     which would read as a healthy latency)
+   */
+  public void release(long latencyNanos, boolean sample) {
+    int inFlightBefore = inFlight.getAndDecrement();
+    if (sample && latencyNanos > 0) {
+      update(latencyNanos, inFlightBefore);
+    }
+  }
+
+  private synchronized void update(long latencyNanos, int inFlightBefore) {
+    if (longRttNanos == 0) {
+      shortRttNanos = latencyNanos;
+      longRttNanos = latencyNanos;
+    }
+    shortRttNanos += (latencyNanos - shortRttNanos) * SHORT_WEIGHT;
+    longRttNanos += (latencyNanos - longRttNanos) / LONG_WINDOW;
+    // After a slow period, let the baseline come back down quickly
+    if (longRttNanos > 2 * shortRttNanos) {
+      longRttNanos *= 0.95;
+    }
+
+    double current = limit;
+    if (inFlightBefore < current / 2) {
+      // Not using the limit, so latency says nothing about whether it is too high
+      return;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+    double estimate = current * gradient + Math.sqrt(current);
+    limit = Math.max(minLimit, Math.min(maxLimit, current * (1 - smoothing) + estimate * smoothing));
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+}
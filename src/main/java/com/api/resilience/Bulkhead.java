@@ -0,0 +1,124 @@
+package com.api.resilience;
+
+import com.api.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps concurrent calls to one dependency. Callers beyond the cap queue in arrival order for up
+ * to the configured wait, then fail with {@link BulkheadFullException}, so a pile-up of request
+ * threads turns into fast rejections instead of unbounded pressure on downstream connections.
+ *
+ * <p>Published per bulkhead (tag name): "bulkhead.calls" tagged result=permitted|rejected,
+ * "bulkhead.wait" (time spent queueing), and gauges "bulkhead.active" and "bulkhead.queued".
+ */
+public class Bulkhead {
+
+  private final String name;
+  // Null when the bulkhead is disabled
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final long maxWaitNanos;
+  private final Counter permitted;
+  private final Counter rejected;
+  private final Timer waitTimer;
+
+  public Bulkhead(String name, BulkheadProperties.Settings settings, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.maxConcurrent = settings.getMaxConcurrent();
+    this.maxWaitNanos = Math.max(0, settings.getMaxWait().toNanos());
+    this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+
+    this.permitted =
+        Counter.builder("bulkhead.calls")
+            .description("Calls admitted by the bulkhead")
+            .tag("name", name)
+            .tag("result", "permitted")
+            .register(meterRegistry);
+    this.rejected =
+        Counter.builder("bulkhead.calls")
+            .description("Calls rejected because the bulkhead stayed full")
+            .tag("name", name)
+            .tag("result", "rejected")
+            .register(meterRegistry);
+    this.waitTimer =
+        Timer.builder("bulkhead.wait")
+            .description("Time calls spent queueing for a bulkhead slot")
+            .tag("name", name)
+            .register(meterRegistry);
+    if (permits != null) {
+      Gauge.builder("bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+          .description("Calls currently holding a bulkhead slot")
+          .tag("name", name)
+          .register(meterRegistry);
+      Gauge.builder("bulkhead.queued", permits, Semaphore::getQueueLength)
+          .description("Calls waiting for a bulkhead slot")
+          .tag("name", name)
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Takes a slot, queueing up to the configured wait. Every successful acquire must be paired
+   * with {@link #release()}.
+   *
+   * @throws BulkheadFullException if no slot freed up in time
+   */
+  public void acquire() {
+    if (permits == null) {
+      return;
+    }
+    if (permits.tryAcquire()) {
+      permitted.increment();
+      return;
+    }
+
+    long start = System.nanoTime();
+    boolean acquired = false;
+    try {
+      acquired = maxWaitNanos > 0 && permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    if (!acquired) {
+      rejected.increment();
+      throw new BulkheadFullException(name);
+    }
+    permitted.increment();
+  }
+
+  /**
+   * Returns a slot taken by {@link #acquire()}.
+   */
+  public void release() {
+    if (permits != null) {
+      permits.release();
+    }
+  }
+
+  /**
+   * Runs the call inside the bulkhead.
+   *
+   * @throws BulkheadFullException if no slot freed up in time
+   */
+  public <T> T call(Supplier<T> call) {
+    acquire();
+    try {
+      return call.get();
+    } finally {
+      release();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+}
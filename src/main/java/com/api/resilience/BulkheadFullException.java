@@ -0,0 +1,18 @@
+package com.api.resilience;
+
+/**
+ * Thrown when a bulkhead has no free slot within its queueing timeout.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+  private final String bulkhead;
+
+  public BulkheadFullException(String bulkhead) {
+    super("Too many concurrent " + bulkhead + " calls");
+    this.bulkhead = bulkhead;
+  }
+
+  public String getBulkhead() {
+    return bulkhead;
+  }
+}
@@ -0,0 +1,56 @@
+package com.api.resilience;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Holds a bulkhead slot for the whole execution of each SDK call, retries included.
+ * Registered on the blocking DynamoDB client, where hooks run on the calling thread, right after
+ * the {@link CircuitBreakerInterceptor} of the same dependency.
+ */
+public class BulkheadInterceptor implements ExecutionInterceptor {
+
+  private static final ExecutionAttribute<Boolean> PERMIT_HELD = new ExecutionAttribute<>("BulkheadPermitHeld");
+
+  private final Bulkhead bulkhead;
+  // Admits each call before this interceptor runs
+  private final CircuitBreaker circuitBreaker;
+
+  public BulkheadInterceptor(Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+    this.bulkhead = bulkhead;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    try {
+      bulkhead.acquire();
+    } catch (BulkheadFullException e) {
+      // The SDK runs no failure hooks for an exception thrown here, so hand back the breaker
+      // permission (possibly a half-open trial slot) this call will never use
+      circuitBreaker.release();
+      throw e;
+    }
+    executionAttributes.putAttribute(PERMIT_HELD, Boolean.TRUE);
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    release(executionAttributes);
+  }
+
+  @Override
+  public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+    release(executionAttributes);
+  }
+
+  // Releases at most once, and never for a call whose acquire was rejected
+  private void release(ExecutionAttributes executionAttributes) {
+    if (Boolean.TRUE.equals(executionAttributes.getAttribute(PERMIT_HELD))) {
+      executionAttributes.putAttribute(PERMIT_HELD, Boolean.FALSE);
+      bulkhead.release();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.api.resilience;
+
+import com.api.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * The application's bulkheads, one per downstream dependency.
+ */
+@Component
+public class Bulkheads {
+
+  private static final Logger logger = LoggerFactory.getLogger(Bulkheads.class);
+
+  private final Bulkhead dynamoDb;
+  private final Bulkhead presigner;
+
+  public Bulkheads(BulkheadProperties bulkheadProperties, MeterRegistry meterRegistry) {
+    this.dynamoDb = new Bulkhead("dynamodb", bulkheadProperties.getDynamodb(), meterRegistry);
+    this.presigner = new Bulkhead("s3-presigner", bulkheadProperties.getPresigner(), meterRegistry);
+    logger.info("Bulkheads: dynamodb maxConcurrent={}, s3-presigner maxConcurrent={}",
+        bulkheadProperties.getDynamodb().getMaxConcurrent(),
+        bulkheadProperties.getPresigner().getMaxConcurrent());
+  }
+
+  /** Guards every blocking DynamoDB call, applied by {@link BulkheadInterceptor}. */
+  public Bulkhead dynamoDb() {
+    return dynamoDb;
+  }
+
+  /** Guards S3 presigning. */
+  public Bulkhead presigner() {
+    return presigner;
+  }
+}
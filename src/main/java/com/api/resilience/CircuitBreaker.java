@@ -0,0 +1,237 @@
+package com.api.resilience;
+
+import com.api.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Stops calling a dependency that keeps failing or slowing down, so requests fail in
+ * milliseconds with {@link CircuitBreakerOpenException} instead of waiting out SDK retries.
+ *
+ * <p>CLOSED: outcomes of the last windowSize calls are kept; once minimumCalls are recorded and
+ * the failure or slow-call rate reaches its threshold, the breaker opens. OPEN: every call is
+ * rejected for openDuration. HALF_OPEN: up to halfOpenCalls trial calls go through; all of them
+ * succeeding closes the breaker, any failure opens it again.
+ *
+ * <p>Published per breaker (tag name): "circuitbreaker.calls" tagged
+ * result=success|failure|rejected, and gauge "circuitbreaker.state" (0 closed, 1 open,
+ * 2 half-open).
+ */
+public class CircuitBreaker {
+
+  private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  public enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final String name;
+  private final boolean enabled;
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final long slowCallNanos;
+  private final int slowCallRateThreshold;
+  private final long openNanos;
+  private final int halfOpenCalls;
+  private final Counter successes;
+  private final Counter failures;
+  private final Counter rejections;
+
+  // Ring buffer of recent outcomes, guarded by this
+  private final boolean[] failed;
+  private final boolean[] slow;
+  private int next;
+  private int recorded;
+  private int failedCount;
+  private int slowCount;
+
+  private volatile State state = State.CLOSED;
+  private long openedAt;
+  private int trialsStarted;
+  private int trialsSucceeded;
+
+  public CircuitBreaker(String name, CircuitBreakerProperties.Settings settings, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.enabled = settings.isEnabled();
+    int windowSize = Math.max(1, settings.getWindowSize());
+    this.failed = new boolean[windowSize];
+    this.slow = new boolean[windowSize];
+    this.minimumCalls = Math.max(1, Math.min(settings.getMinimumCalls(), windowSize));
+    this.failureRateThreshold = settings.getFailureRateThreshold();
+    this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+    this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+    this.openNanos = settings.getOpenDuration().toNanos();
+    this.halfOpenCalls = Math.max(1, settings.getHalfOpenCalls());
+
+    this.successes = counter(meterRegistry, "success", "Calls that completed normally");
+    this.failures = counter(meterRegistry, "failure", "Calls that failed with a dependency error");
+    this.rejections = counter(meterRegistry, "rejected", "Calls rejected while the breaker was open");
+    Gauge.builder("circuitbreaker.state", this, b -> b.state.ordinal())
+        .description("Breaker state: 0 closed, 1 open, 2 half-open")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String result, String description) {
+    return Counter.builder("circuitbreaker.calls")
+        .description(description)
+        .tag("name", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Admits a call. Every admitted call must report its outcome with {@link #onSuccess} or
+   * {@link #onFailure}.
+   *
+   * @throws CircuitBreakerOpenException if the breaker is open, or half-open with all trial
+   *     calls already in flight
+   */
+  public void acquirePermission() {
+    if (!enabled || state == State.CLOSED) {
+      return;
+    }
+    synchronized (this) {
+      long now = System.nanoTime();
+      if (state == State.OPEN && now - openedAt >= openNanos) {
+        transition(State.HALF_OPEN);
+      }
+      if (state == State.HALF_OPEN && trialsStarted < halfOpenCalls) {
+        trialsStarted++;
+        return;
+      }
+      if (state == State.CLOSED) {
+        return;
+      }
+      rejections.increment();
+      throw new CircuitBreakerOpenException(name, Duration.ofNanos(Math.max(0, openedAt + openNanos - now)));
+    }
+  }
+
+  /**
+   * Records a call that completed, which may still count as slow.
+   */
+  public void onSuccess(long durationNanos) {
+    if (!enabled) {
+      return;
+    }
+    successes.increment();
+    record(false, durationNanos >= slowCallNanos);
+  }
+
+  /**
+   * Records a call that failed because of the dependency (not a client error such as a failed
+   * condition check).
+   */
+  public void onFailure(long durationNanos) {
+    if (!enabled) {
+      return;
+    }
+    failures.increment();
+    record(true, durationNanos >= slowCallNanos);
+  }
+
+  /**
+   * Reports an admitted call that never reached the dependency, e.g. rejected by a bulkhead,
+   * returning its half-open trial slot.
+   */
+  public synchronized void release() {
+    if (enabled && state == State.HALF_OPEN && trialsStarted > trialsSucceeded) {
+      trialsStarted--;
+    }
+  }
+
+  private synchronized void record(boolean isFailure, boolean isSlow) {
+    switch (state) {
+      case HALF_OPEN -> {
+        if (isFailure) {
+          transition(State.OPEN);
+        } else if (++trialsSucceeded >= halfOpenCalls) {
+          transition(State.CLOSED);
+        }
+      }
+      case CLOSED -> {
+        if (recorded == failed.length) {
+          failedCount -= failed[next] ? 1 : 0;
+          slowCount -= slow[next] ? 1 : 0;
+        } else {
+          recorded++;
+        }
+        failed[next] = isFailure;
+        slow[next] = isSlow;
+        failedCount += isFailure ? 1 : 0;
+        slowCount += isSlow ? 1 : 0;
+        next = (next + 1) % failed.length;
+
+        if (recorded >= minimumCalls
+            && ((failureRateThreshold > 0 && failedCount * 100 >= failureRateThreshold * recorded)
+                || (slowCallRateThreshold > 0 && slowCount * 100 >= slowCallRateThreshold * recorded))) {
+          logger.warn("Circuit breaker {} opening: {} of {} recent calls failed, {} slow",
+              name, failedCount, recorded, slowCount);
+          transition(State.OPEN);
+        }
+      }
+      case OPEN -> {
+        // Outcome of a call admitted before the breaker opened
+      }
+    }
+  }
+
+  private void transition(State target) {
+    if (target != State.OPEN || state != State.OPEN) {
+      logger.info("Circuit breaker {}: {} -> {}", name, state, target);
+    }
+    state = target;
+    switch (target) {
+      case OPEN -> openedAt = System.nanoTime();
+      case HALF_OPEN -> {
+        trialsStarted = 0;
+        trialsSucceeded = 0;
+      }
+      case CLOSED -> {
+        next = 0;
+        recorded = 0;
+        failedCount = 0;
+        slowCount = 0;
+      }
+    }
+  }
+
+  /**
+   * Whether a call failure means the dependency itself is failing: throttling, a 5xx, or a
+   * client-side I/O or timeout error. Other service errors (e.g. a failed condition check) do not.
+   */
+  public static boolean isDependencyFailure(Throwable exception) {
+    if (exception instanceof AbortedException) {
+      // Cancelled on our side, e.g. the losing half of a hedged read
+      return false;
+    }
+    if (exception instanceof AwsServiceException e) {
+      return e.isThrottlingException() || e.statusCode() >= 500;
+    }
+    return exception instanceof SdkClientException;
+  }
+
+  /**
+   * Whether a read failed because the dependency is unavailable (failing, too slow for the
+   * request deadline, or its breaker open), so a last known good response may be served instead.
+   */
+  public static boolean isUnavailable(Throwable exception) {
+    return exception instanceof CircuitBreakerOpenException
+        || exception instanceof DeadlineExceededException
+        || isDependencyFailure(exception);
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public String getName() {
+    return name;
+  }
+}
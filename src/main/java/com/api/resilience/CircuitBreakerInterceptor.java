@@ -0,0 +1,63 @@
+package com.api.resilience;
+
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Puts every SDK call behind a circuit breaker: calls are rejected before any request is sent
+ * while the breaker is open, and each admitted call's outcome, retries included, is reported
+ * back; see {@link CircuitBreaker#isDependencyFailure} for what counts as a failure.
+ */
+public class CircuitBreakerInterceptor implements ExecutionInterceptor {
+
+  private static final ExecutionAttribute<Long> ADMITTED_AT = new ExecutionAttribute<>("CircuitBreakerAdmittedAt");
+
+  private final CircuitBreaker circuitBreaker;
+
+  public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    circuitBreaker.acquirePermission();
+    executionAttributes.putAttribute(ADMITTED_AT, System.nanoTime());
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    Long admittedAt = executionAttributes.getAttribute(ADMITTED_AT);
+    if (admittedAt != null) {
+      executionAttributes.putAttribute(ADMITTED_AT, null);
+      circuitBreaker.onSuccess(System.nanoTime() - admittedAt);
+    }
+  }
+
+  @Override
+  public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+    // Null for calls the breaker rejected
+    Long admittedAt = executionAttributes.getAttribute(ADMITTED_AT);
+    if (admittedAt == null) {
+      return;
+    }
+    executionAttributes.putAttribute(ADMITTED_AT, null);
+    long duration = System.nanoTime() - admittedAt;
+    Throwable exception = context.exception();
+    if (exception instanceof AbortedException) {
+      // Cancelled by the caller, e.g. the losing half of a hedged read
+      circuitBreaker.release();
+    } else if (CircuitBreaker.isDependencyFailure(exception)) {
+      circuitBreaker.onFailure(duration);
+    } else if (exception instanceof SdkException) {
+      circuitBreaker.onSuccess(duration);
+    } else {
+      // Failed on our side without a DynamoDB response. A bulkhead rejection never gets here: the
+      // SDK runs no failure hooks for beforeExecution exceptions, so BulkheadInterceptor releases
+      circuitBreaker.release();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.api.resilience;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of calling a dependency while its circuit breaker is open.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+  private final String circuitBreaker;
+  private final Duration retryAfter;
+
+  public CircuitBreakerOpenException(String circuitBreaker, Duration retryAfter) {
+    super(circuitBreaker + " is unavailable, calls are suspended");
+    this.circuitBreaker = circuitBreaker;
+    this.retryAfter = retryAfter;
+  }
+
+  public String getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /** Time until the breaker lets trial calls through again. */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,31 @@
+package com.api.resilience;
+
+import com.api.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * The application's circuit breakers, one per downstream dependency.
+ */
+@Component
+public class CircuitBreakers {
+
+  private static final Logger logger = LoggerFactory.getLogger(CircuitBreakers.class);
+
+  private final CircuitBreaker dynamoDb;
+
+  public CircuitBreakers(CircuitBreakerProperties circuitBreakerProperties, MeterRegistry meterRegistry) {
+    CircuitBreakerProperties.Settings settings = circuitBreakerProperties.getDynamodb();
+    this.dynamoDb = new CircuitBreaker("dynamodb", settings, meterRegistry);
+    logger.info("Circuit breakers: dynamodb enabled={}, failureRate={}%, slowCallRate={}% (>{}), open for {}",
+        settings.isEnabled(), settings.getFailureRateThreshold(), settings.getSlowCallRateThreshold(),
+        settings.getSlowCallDuration(), settings.getOpenDuration());
+  }
+
+  /** Guards every DynamoDB call on both clients, applied by {@link CircuitBreakerInterceptor}. */
+  public CircuitBreaker dynamoDb() {
+    return dynamoDb;
+  }
+}
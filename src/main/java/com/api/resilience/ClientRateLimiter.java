@@ -0,0 +1,73 @@
+package com.api.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per client for one route. Each bucket is a single timestamp, the instant it
+ * will be full again (as in GCRA): taking a token pushes it one refill interval later, and a
+ * request is refused when that would put it more than burst intervals ahead of now. Taking a
+ * token is one CAS, so clients never contend with each other.
+ *
+ * <p>Buckets live in a bounded Caffeine cache that drops buckets idle for the idle timeout,
+ * and the least used ones when the client count exceeds its maximum.
+ *
+ * <p>Published: "ratelimit.rejected" and gauge "ratelimit.clients", tagged with the route name.
+ */
+public class ClientRateLimiter {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final Cache<String, AtomicLong> buckets;
+  private final Counter rejected;
+
+  public ClientRateLimiter(
+      String route, double requestsPerSecond, int burst, int maxClients, Duration idleTimeout,
+      MeterRegistry meterRegistry) {
+    if (requestsPerSecond <= 0) {
+      throw new IllegalArgumentException("Rate limit for " + route + " must be positive");
+    }
+    this.intervalNanos = Math.max(1, (long) (1_000_000_000L / requestsPerSecond));
+    this.burstNanos = intervalNanos * Math.max(1, burst);
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(maxClients)
+        .expireAfterAccess(idleTimeout)
+        .build();
+
+    this.rejected = Counter.builder("ratelimit.rejected")
+        .description("Requests rejected because the client exceeded its rate limit")
+        .tag("route", route)
+        .register(meterRegistry);
+    Gauge.builder("ratelimit.clients", buckets, Cache::estimatedSize)
+        .description("Clients with a tracked rate limit bucket")
+        .tag("route", route)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Takes a token for the client.
+   *
+   * @return 0 if the request is allowed, otherwise nanoseconds until the next token
+   */
+  public long tryAcquire(String client) {
+    long now = System.nanoTime();
+    AtomicLong fullAt = buckets.get(client, key -> new AtomicLong(now));
+    while (true) {
+      long current = fullAt.get();
+      long next = Math.max(current, now) + intervalNanos;
+      long ahead = next - now;
+      if (ahead > burstNanos) {
+        rejected.increment();
+        return ahead - burstNanos;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.api.resilience;
+
+import com.api.common.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admits /v1 requests through the {@link AdaptiveConcurrencyLimiter} and sheds the rest with
+ * 503 and Retry-After before any work is done for them. GET, HEAD and OPTIONS count as reads;
+ * other methods (uploads, deletes, profile updates) are writes and get the reserved share.
+ *
+ * <p>A request holds its slot until the response completes, including async handling.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final ObjectMapper objectMapper;
+
+  public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+    this.limiter = limiter;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith("/v1/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!limiter.tryAcquire(isWrite(request))) {
+      shed(response);
+      return;
+    }
+
+    long start = System.nanoTime();
+    boolean async = false;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseOnComplete(start));
+        async = true;
+      }
+    } finally {
+      if (!async) {
+        release(start, response.getStatus());
+      }
+    }
+  }
+
+  private static boolean isWrite(HttpServletRequest request) {
+    String method = request.getMethod();
+    return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+  }
+
+  private void release(long start, int status) {
+    // A 503 here was a fast rejection further down (bulkhead, open breaker); its latency says nothing about load
+    limiter.release(System.nanoTime() - start, status != HttpStatus.SERVICE_UNAVAILABLE.value());
+  }
+
+  private void shed(HttpServletResponse response) throws IOException {
+    ApiResponse body =
+        new ApiResponse(
+            "error",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Server busy, retry later",
+            null,
+            "Concurrency limit reached");
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), body);
+  }
+
+  private final class ReleaseOnComplete implements AsyncListener {
+
+    private final long start;
+
+    private ReleaseOnComplete(long start) {
+      this.start = start;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+      release(start, response.getStatus());
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // A re-started async cycle needs the listener registered again
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
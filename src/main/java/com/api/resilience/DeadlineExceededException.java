@@ -0,0 +1,13 @@
+package com.api.resilience;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of starting a dependency call once the request's time budget is spent.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+  public DeadlineExceededException(Duration budget) {
+    super("Request deadline of " + budget.toMillis() + "ms exceeded");
+  }
+}
@@ -0,0 +1,63 @@
+package com.api.resilience;
+
+import java.time.Duration;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Gives each SDK call what is left of the request's {@link RequestDeadline} as its API call
+ * timeout, so retries stop once the budget is spent, and caps each attempt at the smaller of
+ * that and the configured attempt timeout. Calls are refused outright once the deadline has
+ * passed. Calls outside a request keep the client-wide timeouts.
+ */
+public class DeadlineInterceptor implements ExecutionInterceptor {
+
+  private final Duration maxAttemptTimeout;
+
+  public DeadlineInterceptor(Duration maxAttemptTimeout) {
+    this.maxAttemptTimeout = maxAttemptTimeout;
+  }
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    RequestDeadline deadline = RequestDeadline.current();
+    if (deadline != null && deadline.isExpired()) {
+      throw new DeadlineExceededException(deadline.getBudget());
+    }
+  }
+
+  @Override
+  public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+    SdkRequest request = context.request();
+    RequestDeadline deadline = RequestDeadline.current();
+    if (deadline == null || !(request instanceof AwsRequest awsRequest)) {
+      return request;
+    }
+    // Earlier interceptors (e.g. the bulkhead) may have spent part of the budget
+    long remainingNanos = deadline.remainingNanos();
+    if (remainingNanos <= 0) {
+      throw new DeadlineExceededException(deadline.getBudget());
+    }
+
+    AwsRequestOverrideConfiguration existing = awsRequest.overrideConfiguration().orElse(null);
+    Duration callTimeout = Duration.ofNanos(remainingNanos);
+    if (existing != null) {
+      callTimeout = min(callTimeout, existing.apiCallTimeout().orElse(null));
+    }
+    Duration attemptTimeout = maxAttemptTimeout.isPositive() ? min(callTimeout, maxAttemptTimeout) : callTimeout;
+    AwsRequestOverrideConfiguration override =
+        (existing == null ? AwsRequestOverrideConfiguration.builder() : existing.toBuilder())
+            .apiCallTimeout(callTimeout)
+            .apiCallAttemptTimeout(attemptTimeout)
+            .build();
+    return awsRequest.toBuilder().overrideConfiguration(override).build();
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return b == null || a.compareTo(b) <= 0 ? a : b;
+  }
+}
@@ -0,0 +1,283 @@
+package com.api.resilience;
+
+import com.api.common.RequestContext;
+import com.api.config.HedgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedged execution of idempotent reads. Once a call has run longer than the configured latency
+ * percentile of recent calls with the same name, an identical call is started; the first to
+ * succeed wins and the other is cancelled (blocking calls are interrupted, async ones have their
+ * future cancelled, which aborts the SDK request).
+ *
+ * <p>Hedges are capped at app.hedge.max-rate of calls: each call earns that fraction of a
+ * credit, each hedge spends a whole one. Until app.hedge.min-samples latencies are known, and
+ * when app.hedge.enabled=false, calls run directly on the caller's thread.
+ *
+ * <p>Published per name: "hedge.fired" (duplicates sent), "hedge.won" (duplicates that answered
+ * first), "hedge.capped" (hedges skipped by the rate cap), and gauge "hedge.delay" (current delay,
+ * seconds).
+ */
+@Component
+public class Hedger {
+
+  private static final Logger logger = LoggerFactory.getLogger(Hedger.class);
+
+  // Credits a quiet period can bank, bounding bursts of hedges
+  private static final double MAX_CREDIT = 10;
+  // Recompute the percentile after this many new samples
+  private static final int RECOMPUTE_EVERY = 32;
+
+  private final boolean enabled;
+  private final double percentile;
+  private final long minDelayNanos;
+  private final double maxRate;
+  private final int window;
+  private final int minSamples;
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentHashMap<String, HedgeState> states = new ConcurrentHashMap<>();
+  // Attempts run with the caller's RequestContext restored
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hedge-", 0).factory());
+
+  public Hedger(HedgeProperties hedgeProperties, MeterRegistry meterRegistry) {
+    this.enabled = hedgeProperties.isEnabled();
+    this.percentile = Math.min(100, Math.max(0, hedgeProperties.getPercentile()));
+    this.minDelayNanos = hedgeProperties.getMinDelay().toNanos();
+    this.maxRate = hedgeProperties.getMaxRate();
+    this.window = Math.max(RECOMPUTE_EVERY, hedgeProperties.getWindow());
+    this.minSamples = Math.min(window, Math.max(1, hedgeProperties.getMinSamples()));
+    this.meterRegistry = meterRegistry;
+    logger.info("Hedged reads enabled={} (p{}, maxRate={})", enabled, percentile, maxRate);
+  }
+
+  /**
+   * Runs a blocking idempotent read, hedging it when it is slow.
+   *
+   * @param name identifies the kind of read; latencies and the rate cap are tracked per name
+   * @param call performs the read; may run on another thread and must tolerate interruption
+   * @return the first successful result
+   */
+  public <T> T call(String name, Supplier<T> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    HedgeState state = state(name);
+    long delayNanos = state.delayNanos();
+    if (delayNanos < 0) {
+      long start = System.nanoTime();
+      T value = call.get();
+      state.record(System.nanoTime() - start);
+      return value;
+    }
+
+    state.earn();
+    Supplier<T> bound = RequestContext.capture().wrap(call);
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicInteger running = new AtomicInteger(1);
+    Future<?> primary = executor.submit(() -> attempt(bound, result, running, state, false));
+    Future<?> hedge = null;
+    try {
+      try {
+        return result.get(delayNanos, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (state.trySpend()) {
+          running.incrementAndGet();
+          hedge = executor.submit(() -> attempt(bound, result, running, state, true));
+        }
+        return result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CompletionException(e);
+    } catch (ExecutionException e) {
+      throw unchecked(e.getCause());
+    } finally {
+      primary.cancel(true);
+      if (hedge != null) {
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Async variant of {@link #call}.
+   *
+   * @param name identifies the kind of read; latencies and the rate cap are tracked per name
+   * @param call starts the read
+   * @return a future of the first successful result
+   */
+  public <T> CompletableFuture<T> callAsync(String name, Supplier<CompletableFuture<T>> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    HedgeState state = state(name);
+    long delayNanos = state.delayNanos();
+    if (delayNanos < 0) {
+      long start = System.nanoTime();
+      return call.get().whenComplete((value, error) -> state.record(System.nanoTime() - start));
+    }
+
+    state.earn();
+    // The hedge is started from a timer thread
+    Supplier<CompletableFuture<T>> bound = RequestContext.capture().wrap(call);
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicInteger running = new AtomicInteger(1);
+    CompletableFuture<T> primary = start(bound, result, running, state, false);
+    AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+    CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+      if (!result.isDone() && state.trySpend()) {
+        running.incrementAndGet();
+        hedge.set(start(bound, result, running, state, true));
+        if (result.isDone()) {
+          hedge.get().cancel(true);
+        }
+      }
+    });
+    return result.whenComplete((value, error) -> {
+      primary.cancel(true);
+      CompletableFuture<T> duplicate = hedge.get();
+      if (duplicate != null) {
+        duplicate.cancel(true);
+      }
+    });
+  }
+
+  private HedgeState state(String name) {
+    return states.computeIfAbsent(name, HedgeState::new);
+  }
+
+  private <T> void attempt(
+      Supplier<T> call, CompletableFuture<T> result, AtomicInteger running, HedgeState state, boolean hedged) {
+    long start = System.nanoTime();
+    try {
+      T value = call.get();
+      state.record(System.nanoTime() - start);
+      if (result.complete(value) && hedged) {
+        state.won.increment();
+      }
+    } catch (Throwable e) {
+      // The other attempt may still succeed; fail only when none is left
+      if (running.decrementAndGet() == 0) {
+        result.completeExceptionally(e);
+      }
+    }
+  }
+
+  private <T> CompletableFuture<T> start(
+      Supplier<CompletableFuture<T>> call,
+      CompletableFuture<T> result,
+      AtomicInteger running,
+      HedgeState state,
+      boolean hedged) {
+    long start = System.nanoTime();
+    CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    return future.whenComplete((value, error) -> {
+      if (error == null) {
+        state.record(System.nanoTime() - start);
+        if (result.complete(value) && hedged) {
+          state.won.increment();
+        }
+      } else if (running.decrementAndGet() == 0) {
+        result.completeExceptionally(error);
+      }
+    });
+  }
+
+  /**
+   * Returns the failure of the winning attempt as thrown by the call itself, so callers see the
+   * same AWS exceptions as without hedging.
+   */
+  private static RuntimeException unchecked(Throwable cause) {
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+  }
+
+  /**
+   * Latency window, current delay and rate-cap credit for one kind of read.
+   */
+  private final class HedgeState {
+
+    private final long[] latencies = new long[window];
+    private int next;
+    private int recorded;
+    private int sinceRecompute;
+    private volatile long delayNanos = -1;
+    private double credit;
+    private final Counter fired;
+    private final Counter won;
+    private final Counter capped;
+
+    HedgeState(String name) {
+      this.fired = counter("hedge.fired", "Duplicate reads sent for slow calls", name);
+      this.won = counter("hedge.won", "Duplicate reads that answered before the original", name);
+      this.capped = counter("hedge.capped", "Hedges skipped by the rate cap", name);
+      Gauge.builder("hedge.delay", this, s -> Math.max(0, s.delayNanos) / 1e9)
+          .description("Current delay before a read is hedged")
+          .tag("name", name)
+          .baseUnit("seconds")
+          .register(meterRegistry);
+    }
+
+    private Counter counter(String meter, String description, String name) {
+      return Counter.builder(meter).description(description).tag("name", name).register(meterRegistry);
+    }
+
+    /** Delay before hedging, or -1 while too few latencies are known. */
+    long delayNanos() {
+      return delayNanos;
+    }
+
+    synchronized void record(long latencyNanos) {
+      latencies[next] = latencyNanos;
+      next = (next + 1) % latencies.length;
+      recorded = Math.min(recorded + 1, latencies.length);
+      if (recorded >= minSamples && (++sinceRecompute >= RECOMPUTE_EVERY || delayNanos < 0)) {
+        sinceRecompute = 0;
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * recorded) - 1;
+        delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, Math.min(index, recorded - 1))]);
+      }
+    }
+
+    synchronized void earn() {
+      credit = Math.min(MAX_CREDIT, credit + maxRate);
+    }
+
+    synchronized boolean trySpend() {
+      if (credit >= 1) {
+        credit -= 1;
+        fired.increment();
+        return true;
+      }
+      capped.increment();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.api.resilience;
+
+import com.api.common.ApiResponse;
+import com.api.common.ClientAddressResolver;
+import com.api.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Applies the app.rate-limit.routes limits per client address, rejecting requests over the
+ * limit with 429 and a Retry-After header before any work is done for them. Requests matching
+ * no route pass through. Clients are identified by {@link ClientAddressResolver}, as in the
+ * access log.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private record LimitedRoute(String method, PathPattern pattern, ClientRateLimiter limiter) {}
+
+  private final ClientAddressResolver clientAddressResolver;
+  private final List<LimitedRoute> routes = new ArrayList<>();
+  private final ObjectMapper objectMapper;
+
+  public RateLimitFilter(
+      RateLimitProperties properties,
+      ClientAddressResolver clientAddressResolver,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.clientAddressResolver = clientAddressResolver;
+    this.objectMapper = objectMapper;
+    properties.getRoutes().forEach((name, route) -> routes.add(new LimitedRoute(
+        route.getMethod(),
+        PathPatternParser.defaultInstance.parse(route.getPath()),
+        new ClientRateLimiter(name, route.getRequestsPerSecond(), route.getBurst(),
+            properties.getMaxClients(), properties.getIdleTimeout(), meterRegistry))));
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return routes.isEmpty();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ClientRateLimiter limiter = limiterFor(request);
+    if (limiter != null) {
+      long waitNanos = limiter.tryAcquire(clientAddressResolver.resolve(request));
+      if (waitNanos > 0) {
+        reject(response, waitNanos);
+        return;
+      }
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private ClientRateLimiter limiterFor(HttpServletRequest request) {
+    PathContainer path = null;
+    for (LimitedRoute route : routes) {
+      if (!route.method().equalsIgnoreCase(request.getMethod())) {
+        continue;
+      }
+      if (path == null) {
+        path = PathContainer.parsePath(request.getRequestURI());
+      }
+      if (route.pattern().matches(path)) {
+        return route.limiter();
+      }
+    }
+    return null;
+  }
+
+  private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    ApiResponse body =
+        new ApiResponse(
+            "error",
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too many requests, retry later",
+            null,
+            "Rate limit exceeded");
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), body);
+  }
+}
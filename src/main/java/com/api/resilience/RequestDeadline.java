@@ -0,0 +1,67 @@
+package com.api.resilience;
+
+import java.time.Duration;
+
+/**
+ * The point in time by which the current request must be answered. Bound to the request thread
+ * by {@link RequestDeadlineFilter} and carried to other threads explicitly through
+ * {@link com.api.common.RequestContext}; {@link DeadlineInterceptor} turns the remaining budget
+ * into SDK timeouts for each DynamoDB call.
+ */
+public final class RequestDeadline {
+
+  // Not inheritable: pooled SDK and Netty threads would keep the deadline of the request that created them
+  private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+  private final Duration budget;
+  private final long deadlineNanos;
+
+  RequestDeadline(long startNanos, Duration budget) {
+    this.budget = budget;
+    this.deadlineNanos = startNanos + budget.toNanos();
+  }
+
+  /**
+   * Returns the deadline of the request served by this thread, or null when there is none
+   * (deadlines disabled, or work not tied to a request).
+   */
+  public static RequestDeadline current() {
+    return CURRENT.get();
+  }
+
+  static void bind(RequestDeadline deadline) {
+    CURRENT.set(deadline);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Binds a deadline (or none) to this thread, returning the one bound before; for carrying a
+   * request's deadline to work on another thread.
+   */
+  public static RequestDeadline swap(RequestDeadline deadline) {
+    RequestDeadline previous = CURRENT.get();
+    if (deadline == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(deadline);
+    }
+    return previous;
+  }
+
+  /** Time left, zero or negative once the deadline has passed. */
+  public long remainingNanos() {
+    return deadlineNanos - System.nanoTime();
+  }
+
+  public boolean isExpired() {
+    return remainingNanos() <= 0;
+  }
+
+  /** The request's whole budget. */
+  public Duration getBudget() {
+    return budget;
+  }
+}
@@ -0,0 +1,76 @@
+package com.api.resilience;
+
+import com.api.config.DeadlineProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Starts the {@link RequestDeadline} as soon as a request arrives, with the budget of the first
+ * app.deadline.endpoints pattern matching its path (or the default budget). The deadline is kept
+ * across async dispatches, so time spent waiting on async work counts against it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+  private static final String DEADLINE_ATTRIBUTE = RequestDeadlineFilter.class.getName() + ".DEADLINE";
+
+  private final Duration defaultBudget;
+  private final Map<PathPattern, Duration> budgets = new LinkedHashMap<>();
+
+  public RequestDeadlineFilter(DeadlineProperties deadlineProperties) {
+    this.defaultBudget = deadlineProperties.getDefaultBudget();
+    deadlineProperties.getEndpoints().forEach(
+        (pattern, budget) -> budgets.put(PathPatternParser.defaultInstance.parse(pattern), budget));
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestDeadline deadline = (RequestDeadline) request.getAttribute(DEADLINE_ATTRIBUTE);
+    if (deadline == null) {
+      deadline = new RequestDeadline(System.nanoTime(), budgetFor(request.getRequestURI()));
+      request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+    }
+
+    RequestDeadline.bind(deadline);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestDeadline.clear();
+    }
+  }
+
+  private Duration budgetFor(String path) {
+    if (budgets.isEmpty()) {
+      return defaultBudget;
+    }
+    PathContainer pathContainer = PathContainer.parsePath(path);
+    for (Map.Entry<PathPattern, Duration> entry : budgets.entrySet()) {
+      if (entry.getKey().matches(pathContainer)) {
+        return entry.getValue();
+      }
+    }
+    return defaultBudget;
+  }
+}
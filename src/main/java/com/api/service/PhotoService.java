@@ -1,9 +1,13 @@
 package com.api.service;
 
 import com.api.common.ApiResponse;
+import com.api.dto.request.BatchDeletePhotoRequest;
+import com.api.dto.request.BatchPutPhotoRequest;
+import com.api.dto.request.BatchUploadUrlRequest;
 import com.api.dto.request.PatchPhotoRequest;
 import com.api.dto.request.PutPhotoRequest;
 import com.api.dto.response.PhotoResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service interface for photo operations.
@@ -20,6 +24,33 @@ public interface PhotoService {
    */
   PhotoResponse getPhotos(String lastKey, Integer pageSize);
 
+  /**
+   * Retrieves photos like {@link #getPhotos}, without blocking the caller on DynamoDB when the
+   * async client mode is enabled. In blocking mode the returned future is already complete.
+   *
+   * @param lastKey the last evaluated key for pagination (null for first page)
+   * @param pageSize number of items per page
+   * @return future of the PhotoResponse containing photos and pagination info
+   */
+  CompletableFuture<PhotoResponse> getPhotosAsync(String lastKey, Integer pageSize);
+
+  /**
+   * Retrieves a single photo by its ID. Soft-deleted photos are reported as not found.
+   *
+   * @param imageId the unique identifier for the photo
+   * @return ApiResponse containing the photo metadata, or a 404 response
+   */
+  ApiResponse getPhoto(String imageId);
+
+  /**
+   * Retrieves a single photo like {@link #getPhoto}, without blocking the caller on DynamoDB
+   * when the async client mode is enabled. In blocking mode the returned future is already complete.
+   *
+   * @param imageId the unique identifier for the photo
+   * @return future of the ApiResponse containing the photo metadata, or a 404 response
+   */
+  CompletableFuture<ApiResponse> getPhotoAsync(String imageId);
+
   /**
    * Generates a presigned URL for uploading a photo to S3.
    *
@@ -28,6 +59,15 @@ public interface PhotoService {
    */
   ApiResponse generateUploadUrl(String contentType);
 
+  /**
+   * Generates presigned upload URLs for several photos in one call.
+   * Signing runs in parallel; the whole batch fails if any content type is invalid.
+   *
+   * @param request content types to sign, as a list and/or counts per type
+   * @return ApiResponse containing one imageID/URL pair per requested file
+   */
+  ApiResponse generateUploadUrls(BatchUploadUrlRequest request);
+
   /**
    * Saves photo metadata to the database after upload.
    * Optional EXIF fields in the request are persisted when present.
@@ -37,6 +77,15 @@ public interface PhotoService {
    */
   ApiResponse savePhotoMetadata(PutPhotoRequest request);
 
+  /**
+   * Saves metadata for several photos with BatchWriteItem, retrying unprocessed items.
+   * Existing image IDs and repeats within the batch are rejected per item, as in the single save.
+   *
+   * @param request the photos to save
+   * @return ApiResponse containing one status entry per requested photo, in request order
+   */
+  ApiResponse savePhotoMetadataBatch(BatchPutPhotoRequest request);
+
   /**
    * Updates photo metadata (e.g. display name). Only provided fields are updated.
    *
@@ -53,4 +102,22 @@ public interface PhotoService {
    * @return ApiResponse indicating success or failure
    */
   ApiResponse deletePhoto(String imageId);
+
+  /**
+   * Soft-deletes several photos concurrently, with bounded parallelism.
+   *
+   * @param request the image IDs to delete
+   * @return ApiResponse containing one status entry per requested ID (deleted, not found, failed)
+   */
+  ApiResponse deletePhotos(BatchDeletePhotoRequest request);
+
+  /**
+   * Sets the live-index key on one scan page of live photos written before it existed. Needed
+   * once before switching the listing mode to index; safe to repeat.
+   *
+   * @param lastKey cursor from the previous call, or null to start
+   * @param pageSize items to evaluate in this call
+   * @return ApiResponse with the scanned and updated counts and the cursor for the next call
+   */
+  ApiResponse backfillLiveKeys(String lastKey, Integer pageSize);
 }
@@ -10,6 +10,14 @@ import com.api.dto.request.SocialLinksRequest;
  */
 public interface ProfileService {
 
+  /**
+   * Gets the social links, site message, selfie URL and resume URL in one response.
+   * Served from a cached snapshot of the profile item that saves refresh.
+   *
+   * @return ApiResponse containing the combined profile data
+   */
+  ApiResponse getProfile();
+
   /**
    * Gets the selfie/profile photo URL.
    *
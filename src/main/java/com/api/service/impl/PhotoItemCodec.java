@@ -0,0 +1,113 @@
+package com.api.service.impl;
+
+import com.api.dto.response.Photo;
+import java.util.Map;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Decodes tbl_photo items into {@link Photo} records and holds the immutable
+ * projection and expression attribute names used by every photo read.
+ */
+final class PhotoItemCodec {
+
+  // Private constructor to prevent instantiation
+  private PhotoItemCodec() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  // Display attributes returned for a photo, shared by the listing and single-photo reads
+  static final String PROJECTION =
+      String.join(
+          ", ",
+          PhotoServiceImpl.P_IMAGE_ID,
+          PhotoServiceImpl.P_FILE_NAME,
+          PhotoServiceImpl.P_CLOUD_FRONT,
+          PhotoServiceImpl.P_TITLE,
+          PhotoServiceImpl.P_DESCRIPTION,
+          PhotoServiceImpl.P_CAMERA,
+          PhotoServiceImpl.P_LENS,
+          PhotoServiceImpl.P_APERTURE,
+          PhotoServiceImpl.P_SHUTTER,
+          PhotoServiceImpl.P_ISO,
+          PhotoServiceImpl.P_FOCAL_LENGTH,
+          PhotoServiceImpl.P_LOCATION,
+          PhotoServiceImpl.P_DATE_TAKEN,
+          PhotoServiceImpl.P_UPDATED_AT);
+
+  // Projection for single-photo reads, which must also see the soft-delete flag
+  static final String PROJECTION_WITH_DELETED = PROJECTION + ", " + PhotoServiceImpl.P_IS_DELETED;
+
+  // Names for reads that reference isDeleted (filtered Scan, GetItem)
+  static final Map<String, String> NAMES_WITH_DELETED =
+      attributeNames(PhotoServiceImpl.P_IS_DELETED, PhotoServiceImpl.ATTR_IS_DELETED);
+
+  // Names for the Query on the sparse live-photo index
+  static final Map<String, String> NAMES_WITH_LIVE =
+      attributeNames(PhotoServiceImpl.P_LIVE, PhotoServiceImpl.ATTR_LIVE);
+
+  /**
+   * Decodes a projected photo item. String, number and boolean attributes are read as text (so an
+   * item written with iso as a number still shows it); absent or other-typed ones become null.
+   *
+   * @param item the DynamoDB item
+   * @return the typed photo
+   */
+  static Photo decode(Map<String, AttributeValue> item) {
+    return new Photo(
+        string(item, PhotoServiceImpl.ATTR_IMAGE_ID),
+        string(item, PhotoServiceImpl.ATTR_FILE_NAME),
+        string(item, PhotoServiceImpl.ATTR_CLOUD_FRONT),
+        string(item, PhotoServiceImpl.ATTR_TITLE),
+        string(item, PhotoServiceImpl.ATTR_DESCRIPTION),
+        string(item, PhotoServiceImpl.ATTR_CAMERA),
+        string(item, PhotoServiceImpl.ATTR_LENS),
+        string(item, PhotoServiceImpl.ATTR_APERTURE),
+        string(item, PhotoServiceImpl.ATTR_SHUTTER),
+        string(item, PhotoServiceImpl.ATTR_ISO),
+        string(item, PhotoServiceImpl.ATTR_FOCAL_LENGTH),
+        string(item, PhotoServiceImpl.ATTR_LOCATION),
+        string(item, PhotoServiceImpl.ATTR_DATE_TAKEN),
+        string(item, PhotoServiceImpl.ATTR_UPDATED_AT));
+  }
+
+  /**
+   * Checks the soft-delete flag of an item read with {@link #PROJECTION_WITH_DELETED}.
+   */
+  static boolean isDeleted(Map<String, AttributeValue> item) {
+    AttributeValue deleted = item.get(PhotoServiceImpl.ATTR_IS_DELETED);
+    return deleted != null && Boolean.TRUE.equals(deleted.bool());
+  }
+
+  private static String string(Map<String, AttributeValue> item, String name) {
+    AttributeValue value = item.get(name);
+    if (value == null) {
+      return null;
+    }
+    if (value.s() != null) {
+      return value.s();
+    }
+    if (value.n() != null) {
+      return value.n();
+    }
+    return value.bool() == null ? null : value.bool().toString();
+  }
+
+  private static Map<String, String> attributeNames(String extraPlaceholder, String extraAttribute) {
+    return Map.ofEntries(
+        Map.entry(PhotoServiceImpl.P_IMAGE_ID, PhotoServiceImpl.ATTR_IMAGE_ID),
+        Map.entry(PhotoServiceImpl.P_FILE_NAME, PhotoServiceImpl.ATTR_FILE_NAME),
+        Map.entry(PhotoServiceImpl.P_CLOUD_FRONT, PhotoServiceImpl.ATTR_CLOUD_FRONT),
+        Map.entry(PhotoServiceImpl.P_TITLE, PhotoServiceImpl.ATTR_TITLE),
+        Map.entry(PhotoServiceImpl.P_DESCRIPTION, PhotoServiceImpl.ATTR_DESCRIPTION),
+        Map.entry(PhotoServiceImpl.P_CAMERA, PhotoServiceImpl.ATTR_CAMERA),
+        Map.entry(PhotoServiceImpl.P_LENS, PhotoServiceImpl.ATTR_LENS),
+        Map.entry(PhotoServiceImpl.P_APERTURE, PhotoServiceImpl.ATTR_APERTURE),
+        Map.entry(PhotoServiceImpl.P_SHUTTER, PhotoServiceImpl.ATTR_SHUTTER),
+        Map.entry(PhotoServiceImpl.P_ISO, PhotoServiceImpl.ATTR_ISO),
+        Map.entry(PhotoServiceImpl.P_FOCAL_LENGTH, PhotoServiceImpl.ATTR_FOCAL_LENGTH),
+        Map.entry(PhotoServiceImpl.P_LOCATION, PhotoServiceImpl.ATTR_LOCATION),
+        Map.entry(PhotoServiceImpl.P_DATE_TAKEN, PhotoServiceImpl.ATTR_DATE_TAKEN),
+        Map.entry(PhotoServiceImpl.P_UPDATED_AT, PhotoServiceImpl.ATTR_UPDATED_AT),
+        Map.entry(extraPlaceholder, extraAttribute));
+  }
+}
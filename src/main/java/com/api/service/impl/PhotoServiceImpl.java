@@ -1,28 +1,67 @@
 package com.api.service.impl;
 
+import com.api.cache.LastKnownGood;
+import com.api.cache.PhotoItemCache;
+import com.api.cache.PhotoPageCache;
+import com.api.cache.SingleFlight;
 import com.api.common.ApiResponse;
 import com.api.common.Constant;
+import com.api.common.RequestContext;
 import com.api.config.AwsProperties;
+import com.api.config.CircuitBreakerProperties;
+import com.api.config.PhotoProperties;
+import com.api.dto.request.BatchDeletePhotoRequest;
+import com.api.dto.request.BatchPutPhotoRequest;
+import com.api.dto.request.BatchUploadUrlRequest;
 import com.api.dto.request.PatchPhotoRequest;
 import com.api.dto.request.PutPhotoRequest;
+import com.api.dto.response.Photo;
 import com.api.dto.response.PhotoResponse;
+import com.api.metrics.AwsSdkMetrics;
+import com.api.resilience.Bulkheads;
+import com.api.resilience.CircuitBreaker;
+import com.api.resilience.Hedger;
 import com.api.service.PhotoService;
 import com.api.util.DateTimeUtil;
 import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
@@ -43,161 +82,590 @@ public class PhotoServiceImpl implements PhotoService {
   private static final int NANO_ID_LENGTH = 8;
 
   // DynamoDB attribute names
-  private static final String ATTR_IMAGE_ID = "imageID";
-  private static final String ATTR_FILE_NAME = "fileName";
-  private static final String ATTR_CLOUD_FRONT = "cloudFront";
-  private static final String ATTR_IS_DELETED = "isDeleted";
-  private static final String ATTR_UPDATED_AT = "updatedAt";
-  private static final String ATTR_TITLE = "title";
-  private static final String ATTR_DESCRIPTION = "description";
-  private static final String ATTR_CAMERA = "camera";
-  private static final String ATTR_LENS = "lens";
-  private static final String ATTR_APERTURE = "aperture";
-  private static final String ATTR_SHUTTER = "shutter";
-  private static final String ATTR_ISO = "iso";
-  private static final String ATTR_FOCAL_LENGTH = "focalLength";
-  private static final String ATTR_LOCATION = "location";
-  private static final String ATTR_DATE_TAKEN = "dateTaken";
+  static final String ATTR_IMAGE_ID = "imageID";
+  static final String ATTR_FILE_NAME = "fileName";
+  static final String ATTR_CLOUD_FRONT = "cloudFront";
+  static final String ATTR_IS_DELETED = "isDeleted";
+  static final String ATTR_UPDATED_AT = "updatedAt";
+  static final String ATTR_TITLE = "title";
+  static final String ATTR_DESCRIPTION = "description";
+  static final String ATTR_CAMERA = "camera";
+  static final String ATTR_LENS = "lens";
+  static final String ATTR_APERTURE = "aperture";
+  static final String ATTR_SHUTTER = "shutter";
+  static final String ATTR_ISO = "iso";
+  static final String ATTR_FOCAL_LENGTH = "focalLength";
+  static final String ATTR_LOCATION = "location";
+  static final String ATTR_DATE_TAKEN = "dateTaken";
+  static final String ATTR_CREATED_AT = "createdAt";
+  // Partition key of the sparse live-photo index; present only on non-deleted photos
+  static final String ATTR_LIVE = "liveKey";
+  private static final String LIVE = "LIVE";
+  private static final char CURSOR_SEPARATOR = '|';
 
   private final DynamoDbClient dynamoDbClient;
+  // Present only when app.aws.dynamo-client-mode=async
+  private final DynamoDbAsyncClient dynamoDbAsyncClient;
   private final S3Presigner s3Presigner;
   private final AwsProperties awsProperties;
+  private final PhotoProperties photoProperties;
+  private final PhotoPageCache photoPageCache;
+  private final PhotoItemCache photoItemCache;
+  private final SingleFlight singleFlight;
+  private final Bulkheads bulkheads;
+  private final AwsSdkMetrics awsSdkMetrics;
+  private final Hedger hedger;
+  private final LastKnownGood<String, PhotoResponse> stalePages;
+  private final LastKnownGood<String, Photo> stalePhotos;
+  private final Counter listingScanned;
+  private final Counter listingReturned;
+  private final DistributionSummary listingRequests;
 
-  public PhotoServiceImpl(DynamoDbClient dynamoDbClient, S3Presigner s3Presigner, AwsProperties awsProperties) {
+  // Immutable request templates; each call only adds the start key / key and limit
+  private final ScanRequest scanTemplate;
+  private final QueryRequest queryTemplate;
+  private final GetItemRequest getItemTemplate;
+
+  public PhotoServiceImpl(
+      DynamoDbClient dynamoDbClient,
+      @Nullable DynamoDbAsyncClient dynamoDbAsyncClient,
+      S3Presigner s3Presigner,
+      AwsProperties awsProperties,
+      PhotoProperties photoProperties,
+      PhotoPageCache photoPageCache,
+      PhotoItemCache photoItemCache,
+      SingleFlight singleFlight,
+      Bulkheads bulkheads,
+      AwsSdkMetrics awsSdkMetrics,
+      Hedger hedger,
+      CircuitBreakerProperties circuitBreakerProperties,
+      MeterRegistry meterRegistry) {
     this.dynamoDbClient = dynamoDbClient;
+    this.dynamoDbAsyncClient = dynamoDbAsyncClient;
     this.s3Presigner = s3Presigner;
     this.awsProperties = awsProperties;
+    this.photoProperties = photoProperties;
+    this.photoPageCache = photoPageCache;
+    this.photoItemCache = photoItemCache;
+    this.singleFlight = singleFlight;
+    this.bulkheads = bulkheads;
+    this.awsSdkMetrics = awsSdkMetrics;
+    this.hedger = hedger;
+    this.stalePages =
+        new LastKnownGood<>("photos.page", circuitBreakerProperties.getStaleMaxEntries(), meterRegistry);
+    this.stalePhotos =
+        new LastKnownGood<>("photos.item", circuitBreakerProperties.getStaleMaxEntries(), meterRegistry);
+    this.listingScanned =
+        Counter.builder("photos.listing.items.scanned")
+            .description("Items read by DynamoDB while building gallery pages")
+            .register(meterRegistry);
+    this.listingReturned =
+        Counter.builder("photos.listing.items.returned")
+            .description("Items returned to clients in gallery pages")
+            .register(meterRegistry);
+    this.listingRequests =
+        DistributionSummary.builder("photos.listing.requests")
+            .description("DynamoDB round trips needed to fill one gallery page")
+            .register(meterRegistry);
+
+    this.scanTemplate =
+        ScanRequest.builder()
+            .tableName(awsProperties.getPhotoTable())
+            .projectionExpression(PhotoItemCodec.PROJECTION)
+            .expressionAttributeNames(PhotoItemCodec.NAMES_WITH_DELETED)
+            .filterExpression(P_IS_DELETED + " = :val")
+            .expressionAttributeValues(Map.of(":val", AttributeValue.builder().bool(false).build()))
+            .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+            .build();
+    // Sparse index: only live photos carry the index partition key, so no filter is needed
+    this.queryTemplate =
+        QueryRequest.builder()
+            .tableName(awsProperties.getPhotoTable())
+            .indexName(photoProperties.getLiveIndexName())
+            .keyConditionExpression(P_LIVE + " = :live")
+            .projectionExpression(PhotoItemCodec.PROJECTION)
+            .expressionAttributeNames(PhotoItemCodec.NAMES_WITH_LIVE)
+            .expressionAttributeValues(Map.of(":live", AttributeValue.builder().s(LIVE).build()))
+            .scanIndexForward(false)
+            .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+            .build();
+    this.getItemTemplate =
+        GetItemRequest.builder()
+            .tableName(awsProperties.getPhotoTable())
+            .projectionExpression(PhotoItemCodec.PROJECTION_WITH_DELETED)
+            .expressionAttributeNames(PhotoItemCodec.NAMES_WITH_DELETED)
+            .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+            .build();
   }
 
   private static final int DEFAULT_PAGE_SIZE = 10;
   private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_BATCH_UPLOAD_URLS = 500;
+  // Items evaluated per liveKey backfill call
+  private static final int BACKFILL_PAGE_SIZE = 100;
+  private static final int MAX_BACKFILL_PAGE_SIZE = 1000;
 
   // Expression attribute name placeholders (avoid DynamoDB reserved words e.g. description, date)
-  private static final String P_IMAGE_ID = "#pid";
-  private static final String P_FILE_NAME = "#pfn";
-  private static final String P_CLOUD_FRONT = "#pcf";
-  private static final String P_IS_DELETED = "#pdel";
-  private static final String P_TITLE = "#pt";
-  private static final String P_DESCRIPTION = "#pdesc";
-  private static final String P_CAMERA = "#pcam";
-  private static final String P_LENS = "#plens";
-  private static final String P_APERTURE = "#papt";
-  private static final String P_SHUTTER = "#pshut";
-  private static final String P_ISO = "#piso";
-  private static final String P_FOCAL_LENGTH = "#pfl";
-  private static final String P_LOCATION = "#ploc";
-  private static final String P_DATE_TAKEN = "#pdt";
-  private static final String P_UPDATED_AT = "#pupd";
+  static final String P_IMAGE_ID = "#pid";
+  static final String P_FILE_NAME = "#pfn";
+  static final String P_CLOUD_FRONT = "#pcf";
+  static final String P_IS_DELETED = "#pdel";
+  static final String P_TITLE = "#pt";
+  static final String P_DESCRIPTION = "#pdesc";
+  static final String P_CAMERA = "#pcam";
+  static final String P_LENS = "#plens";
+  static final String P_APERTURE = "#papt";
+  static final String P_SHUTTER = "#pshut";
+  static final String P_ISO = "#piso";
+  static final String P_FOCAL_LENGTH = "#pfl";
+  static final String P_LOCATION = "#ploc";
+  static final String P_DATE_TAKEN = "#pdt";
+  static final String P_UPDATED_AT = "#pupd";
+  static final String P_LIVE = "#plive";
 
   @Override
   public PhotoResponse getPhotos(String lastKey, Integer pageSize) {
-    // Validate and sanitize pageSize
-    int validPageSize = (pageSize == null || pageSize <= 0) ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
-    logger.debug("Fetching photos with lastKey={}, pageSize={}", lastKey, validPageSize);
-
-    String projectionExpression =
-        String.join(
-            ", ",
-            P_IMAGE_ID,
-            P_FILE_NAME,
-            P_CLOUD_FRONT,
-            P_TITLE,
-            P_DESCRIPTION,
-            P_CAMERA,
-            P_LENS,
-            P_APERTURE,
-            P_SHUTTER,
-            P_ISO,
-            P_FOCAL_LENGTH,
-            P_LOCATION,
-            P_DATE_TAKEN,
-            P_UPDATED_AT);
-    Map<String, String> expressionAttributeNames = new HashMap<>();
-    expressionAttributeNames.put(P_IMAGE_ID, ATTR_IMAGE_ID);
-    expressionAttributeNames.put(P_FILE_NAME, ATTR_FILE_NAME);
-    expressionAttributeNames.put(P_CLOUD_FRONT, ATTR_CLOUD_FRONT);
-    expressionAttributeNames.put(P_IS_DELETED, ATTR_IS_DELETED);
-    expressionAttributeNames.put(P_TITLE, ATTR_TITLE);
-    expressionAttributeNames.put(P_DESCRIPTION, ATTR_DESCRIPTION);
-    expressionAttributeNames.put(P_CAMERA, ATTR_CAMERA);
-    expressionAttributeNames.put(P_LENS, ATTR_LENS);
-    expressionAttributeNames.put(P_APERTURE, ATTR_APERTURE);
-    expressionAttributeNames.put(P_SHUTTER, ATTR_SHUTTER);
-    expressionAttributeNames.put(P_ISO, ATTR_ISO);
-    expressionAttributeNames.put(P_FOCAL_LENGTH, ATTR_FOCAL_LENGTH);
-    expressionAttributeNames.put(P_LOCATION, ATTR_LOCATION);
-    expressionAttributeNames.put(P_DATE_TAKEN, ATTR_DATE_TAKEN);
-    expressionAttributeNames.put(P_UPDATED_AT, ATTR_UPDATED_AT);
-
-    String filterExpression = P_IS_DELETED + " = :val";
-    Map<String, AttributeValue> expressionAttributeValues =
-        Map.of(":val", AttributeValue.builder().bool(false).build());
-
-    ScanRequest.Builder scanBuilder =
-        ScanRequest.builder()
-            .tableName(awsProperties.getPhotoTable())
-            .projectionExpression(projectionExpression)
-            .expressionAttributeNames(expressionAttributeNames)
-            .filterExpression(filterExpression)
-            .expressionAttributeValues(expressionAttributeValues)
-            .limit(validPageSize);
+    int validPageSize = validPageSize(pageSize);
+    // Cache misses for the same page (and every read when the cache is off) share one DynamoDB call
+    String flightKey = (lastKey == null ? "" : lastKey) + '|' + validPageSize;
+    try {
+      return photoPageCache.get(
+          lastKey,
+          validPageSize,
+          () -> singleFlight.execute(
+              "photos.page",
+              flightKey,
+              () -> stalePages.remember(flightKey, loadPhotos(lastKey, validPageSize))));
+    } catch (RuntimeException e) {
+      return stalePage(flightKey, e);
+    }
+  }
 
-    if (lastKey != null && !lastKey.isEmpty()) {
-      Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
-      exclusiveStartKey.put(ATTR_IMAGE_ID, AttributeValue.builder().s(lastKey).build());
-      scanBuilder.exclusiveStartKey(exclusiveStartKey);
+  @Override
+  public CompletableFuture<PhotoResponse> getPhotosAsync(String lastKey, Integer pageSize) {
+    if (dynamoDbAsyncClient == null) {
+      return CompletableFuture.completedFuture(getPhotos(lastKey, pageSize));
     }
+    int validPageSize = validPageSize(pageSize);
+    String flightKey = (lastKey == null ? "" : lastKey) + '|' + validPageSize;
+    return photoPageCache
+        .getAsync(
+            lastKey,
+            validPageSize,
+            () -> singleFlight.executeAsync(
+                "photos.page",
+                flightKey,
+                () -> loadPhotosAsync(lastKey, validPageSize).thenApply(page -> stalePages.remember(flightKey, page))))
+        .exceptionally(error -> stalePage(flightKey, error));
+  }
 
-    ScanResponse response = dynamoDbClient.scan(scanBuilder.build());
+  /**
+   * Serves the last good copy of a gallery page when DynamoDB is unavailable, or rethrows.
+   */
+  private PhotoResponse stalePage(String flightKey, Throwable error) {
+    RuntimeException failure = unwrap(error);
+    if (!CircuitBreaker.isUnavailable(failure)) {
+      throw failure;
+    }
+    PhotoResponse page = stalePages.recover(flightKey, failure);
+    logger.warn("Serving stale gallery page {}: {}", flightKey, failure.getMessage());
+    return new PhotoResponse(page.apiResponse().asStale(), page.lastKey(), page.hasMore());
+  }
 
-    Map<String, AttributeValue> responseLastKey = response.lastEvaluatedKey();
-    String nextKey = "";
-    boolean hasMore = false;
+  /**
+   * Serves the last good copy of a photo when DynamoDB is unavailable, or rethrows.
+   */
+  private ApiResponse stalePhoto(String imageId, Throwable error) {
+    RuntimeException failure = unwrap(error);
+    if (!CircuitBreaker.isUnavailable(failure)) {
+      throw failure;
+    }
+    Photo photo = stalePhotos.recover(imageId, failure);
+    logger.warn("Serving stale photo {}: {}", imageId, failure.getMessage());
+    return photoResult(imageId, photo).asStale();
+  }
 
-    // Safe null check before accessing lastEvaluatedKey
-    if (responseLastKey != null && !responseLastKey.isEmpty()) {
-      AttributeValue imageIdValue = responseLastKey.get(ATTR_IMAGE_ID);
-      if (imageIdValue != null && imageIdValue.s() != null) {
-        nextKey = imageIdValue.s();
-        hasMore = true;
+  private static RuntimeException unwrap(Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+  }
+
+  private static int validPageSize(Integer pageSize) {
+    return (pageSize == null || pageSize <= 0) ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
+  }
+
+  /**
+   * Reads one gallery page. The DynamoDB round trips of the first page, which nearly every visit
+   * starts with, are hedged; only the winning response is counted in the listing metrics.
+   */
+  private PhotoResponse loadPhotos(String lastKey, int validPageSize) {
+    ListingProgress listing = new ListingProgress(lastKey, validPageSize);
+    boolean more = true;
+    while (more) {
+      int limit = listing.limit();
+      Map<String, AttributeValue> startKey = listing.startKey;
+      Supplier<ListingPage> roundTrip = listing.indexMode
+          ? () -> queryPage(dynamoDbClient.query(queryRequest(startKey, limit)))
+          : () -> scanPage(dynamoDbClient.scan(scanRequest(startKey, limit)), limit);
+      ListingPage page = listing.firstPage ? hedger.call("photos.first-page", roundTrip) : roundTrip.get();
+      more = listing.accept(page);
+    }
+    return listing.finish();
+  }
+
+  private CompletableFuture<PhotoResponse> loadPhotosAsync(String lastKey, int validPageSize) {
+    return continueListing(new ListingProgress(lastKey, validPageSize), RequestContext.capture());
+  }
+
+  /**
+   * Issues the next listing round trip without blocking, chaining further reads until done.
+   * Later round trips are issued from SDK completion threads, with the request's context restored.
+   */
+  private CompletableFuture<PhotoResponse> continueListing(ListingProgress listing, RequestContext context) {
+    int limit = listing.limit();
+    Map<String, AttributeValue> startKey = listing.startKey;
+    Supplier<CompletableFuture<ListingPage>> roundTrip = listing.indexMode
+        ? () -> dynamoDbAsyncClient.query(queryRequest(startKey, limit)).thenApply(PhotoServiceImpl::queryPage)
+        : () -> dynamoDbAsyncClient.scan(scanRequest(startKey, limit)).thenApply(r -> scanPage(r, limit));
+    CompletableFuture<ListingPage> page =
+        listing.firstPage ? hedger.callAsync("photos.first-page", roundTrip) : roundTrip.get();
+    return page.thenCompose(
+        result -> listing.accept(result)
+            ? context.call(() -> continueListing(listing, context))
+            : CompletableFuture.completedFuture(listing.finish()));
+  }
+
+  /**
+   * Accumulates one gallery page across DynamoDB round trips. Shared by the blocking and async
+   * listing paths, which differ only in how each round trip is issued.
+   */
+  private final class ListingProgress {
+
+    private final boolean indexMode = photoProperties.getListingMode() == PhotoProperties.ListingMode.INDEX;
+    private final boolean firstPage;
+    private final int pageSize;
+    private final int maxScannedItems;
+    private final double maxReadCapacity = photoProperties.getMaxReadCapacity();
+    private final List<Photo> items;
+    private Map<String, AttributeValue> startKey;
+    private String nextKey = "";
+    private boolean hasMore;
+    private int scanned;
+    private int requests;
+    private double consumedCapacity;
+
+    ListingProgress(String lastKey, int pageSize) {
+      logger.debug("Fetching photos with lastKey={}, pageSize={}, mode={}",
+          lastKey, pageSize, photoProperties.getListingMode());
+      this.firstPage = lastKey == null || lastKey.isEmpty();
+      this.pageSize = pageSize;
+      this.maxScannedItems = Math.max(photoProperties.getMaxScannedItems(), pageSize);
+      this.items = new ArrayList<>(pageSize);
+      if (lastKey != null && !lastKey.isEmpty()) {
+        startKey = indexMode ? decodeIndexCursor(lastKey) : scanStartKey(lastKey);
       }
     }
 
-    List<Map<String, Object>> responseData = new ArrayList<>();
-    for (Map<String, AttributeValue> item : response.items()) {
-      Map<String, Object> newItem = new HashMap<>();
-      for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
-        AttributeValue value = entry.getValue();
-        // Handle different AttributeValue types safely
-        if (value.s() != null) {
-          newItem.put(entry.getKey(), value.s());
-        } else if (value.n() != null) {
-          newItem.put(entry.getKey(), value.n());
-        } else if (value.bool() != null) {
-          newItem.put(entry.getKey(), value.bool());
-        }
+    /**
+     * Limit for the next round trip. Query on the sparse index has no filter, so it never asks
+     * for more than still fits on the page; a filtered Scan evaluates `limit` items and may
+     * return far fewer than requested.
+     */
+    int limit() {
+      return indexMode ? pageSize - items.size() : Math.min(pageSize, maxScannedItems - scanned);
+    }
+
+    /**
+     * Adds one round trip's items.
+     *
+     * @return true to keep reading: the page is not full and neither the table nor the read
+     *     budget is exhausted
+     */
+    boolean accept(ListingPage page) {
+      int remaining = pageSize - items.size();
+      requests++;
+      scanned += page.scannedCount();
+      consumedCapacity += page.consumedCapacity();
+
+      Map<String, AttributeValue> responseLastKey = page.lastEvaluatedKey();
+      boolean exhausted = responseLastKey == null || responseLastKey.isEmpty();
+
+      List<Map<String, AttributeValue>> pageItems = page.items();
+      int take = Math.min(pageItems.size(), remaining);
+      for (int i = 0; i < take; i++) {
+        items.add(PhotoItemCodec.decode(pageItems.get(i)));
       }
-      responseData.add(newItem);
+
+      if (pageItems.size() > remaining) {
+        // Filtered Scan overshot the page: resume right after the last item we actually return
+        nextKey = items.get(items.size() - 1).imageID();
+        hasMore = true;
+        return false;
+      }
+
+      if (exhausted) {
+        nextKey = "";
+        hasMore = false;
+        return false;
+      }
+      startKey = responseLastKey;
+      nextKey = indexMode ? encodeIndexCursor(responseLastKey) : scanCursor(responseLastKey);
+      hasMore = !nextKey.isEmpty();
+
+      return hasMore
+          && items.size() < pageSize
+          && scanned < maxScannedItems
+          && (maxReadCapacity <= 0 || consumedCapacity < maxReadCapacity);
+    }
+
+    PhotoResponse finish() {
+      listingScanned.increment(scanned);
+      listingReturned.increment(items.size());
+      listingRequests.record(requests);
+
+      logger.debug("Retrieved {} photos (scanned={}, requests={}, rcu={}), hasMore={}",
+          items.size(), scanned, requests, consumedCapacity, hasMore);
+
+      ApiResponse base =
+          new ApiResponse(
+              "success",
+              200,
+              "The resource has been fetched and transmitted in the message body.",
+              items,
+              null);
+
+      return new PhotoResponse(base, nextKey, hasMore);
     }
+  }
 
-    logger.info("Retrieved {} photos, hasMore={}", responseData.size(), hasMore);
+  @Override
+  public ApiResponse getPhoto(String imageId) {
+    logger.debug("Fetching photo with imageId={}", imageId);
 
-    ApiResponse base =
-        new ApiResponse(
-            "success",
-            200,
-            "The resource has been fetched and transmitted in the message body.",
-            responseData,
-            null);
+    if (imageId == null || imageId.isBlank()) {
+      throw new IllegalArgumentException("Image ID is required");
+    }
 
-    return new PhotoResponse(base, nextKey, hasMore);
+    Photo photo;
+    try {
+      photo = photoItemCache.get(
+          imageId, id -> singleFlight.execute("photos.item", id, () -> stalePhotos.remember(id, loadPhoto(id))));
+    } catch (RuntimeException e) {
+      return stalePhoto(imageId, e);
+    }
+    return photoResult(imageId, photo);
+  }
+
+  @Override
+  public CompletableFuture<ApiResponse> getPhotoAsync(String imageId) {
+    if (dynamoDbAsyncClient == null) {
+      return CompletableFuture.completedFuture(getPhoto(imageId));
+    }
+    logger.debug("Fetching photo with imageId={}", imageId);
+
+    if (imageId == null || imageId.isBlank()) {
+      throw new IllegalArgumentException("Image ID is required");
+    }
+
+    return photoItemCache
+        .getAsync(
+            imageId,
+            id -> singleFlight.executeAsync(
+                "photos.item",
+                id,
+                () -> hedger.callAsync("photos.item", () -> dynamoDbAsyncClient.getItem(getItemRequest(id)))
+                    .thenApply(r -> stalePhotos.remember(id, livePhoto(r.item())))))
+        .thenApply(photo -> photoResult(imageId, photo))
+        .exceptionally(error -> stalePhoto(imageId, error));
+  }
+
+  private static ApiResponse photoResult(String imageId, Photo photo) {
+    if (photo == null) {
+      logger.warn("Photo not found: imageId={}", imageId);
+      return new ApiResponse("error", 404, "Photo not found", null, null);
+    }
+    return new ApiResponse(
+        "success", 200, "The resource has been fetched and transmitted in the message body.", photo, null);
+  }
+
+  /**
+   * Reads a single photo with GetItem. Returns null when the photo is missing or soft-deleted.
+   */
+  private Photo loadPhoto(String imageId) {
+    GetItemRequest request = getItemRequest(imageId);
+    return livePhoto(hedger.call("photos.item", () -> dynamoDbClient.getItem(request)).item());
+  }
+
+  private GetItemRequest getItemRequest(String imageId) {
+    return getItemTemplate.toBuilder()
+        .key(Map.of(ATTR_IMAGE_ID, AttributeValue.builder().s(imageId).build()))
+        .build();
+  }
+
+  private static Photo livePhoto(Map<String, AttributeValue> item) {
+    if (item == null || item.isEmpty() || PhotoItemCodec.isDeleted(item)) {
+      return null;
+    }
+    return PhotoItemCodec.decode(item);
+  }
+
+  /**
+   * One DynamoDB round trip of the gallery listing.
+   */
+  private record ListingPage(
+      List<Map<String, AttributeValue>> items,
+      Map<String, AttributeValue> lastEvaluatedKey,
+      int scannedCount,
+      double consumedCapacity) {}
+
+  private QueryRequest queryRequest(Map<String, AttributeValue> startKey, int limit) {
+    QueryRequest.Builder queryBuilder = queryTemplate.toBuilder().limit(limit);
+    if (startKey != null) {
+      queryBuilder.exclusiveStartKey(startKey);
+    }
+    return queryBuilder.build();
+  }
+
+  private static ListingPage queryPage(QueryResponse response) {
+    return new ListingPage(
+        response.items(),
+        response.lastEvaluatedKey(),
+        response.scannedCount() == null ? response.items().size() : response.scannedCount(),
+        capacityUnits(response.consumedCapacity()));
+  }
+
+  private ScanRequest scanRequest(Map<String, AttributeValue> startKey, int limit) {
+    ScanRequest.Builder scanBuilder = scanTemplate.toBuilder().limit(limit);
+    if (startKey != null) {
+      scanBuilder.exclusiveStartKey(startKey);
+    }
+    return scanBuilder.build();
+  }
+
+  private static ListingPage scanPage(ScanResponse response, int limit) {
+    return new ListingPage(
+        response.items(),
+        response.lastEvaluatedKey(),
+        response.scannedCount() == null ? limit : response.scannedCount(),
+        capacityUnits(response.consumedCapacity()));
+  }
+
+  private static double capacityUnits(ConsumedCapacity consumedCapacity) {
+    if (consumedCapacity == null || consumedCapacity.capacityUnits() == null) {
+      return 0;
+    }
+    return consumedCapacity.capacityUnits();
+  }
+
+  private static Map<String, AttributeValue> scanStartKey(String lastKey) {
+    Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
+    exclusiveStartKey.put(ATTR_IMAGE_ID, AttributeValue.builder().s(lastKey).build());
+    return exclusiveStartKey;
+  }
+
+  private static String scanCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+    // Safe null check before accessing lastEvaluatedKey
+    AttributeValue imageIdValue = lastEvaluatedKey.get(ATTR_IMAGE_ID);
+    if (imageIdValue != null && imageIdValue.s() != null) {
+      return imageIdValue.s();
+    }
+    return "";
+  }
+
+  /**
+   * Encodes a live-index LastEvaluatedKey (createdAt + imageID) as an opaque URL-safe cursor,
+   * so clients keep passing a single lastKey string regardless of listing mode.
+   */
+  private static String encodeIndexCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+    AttributeValue createdAt = lastEvaluatedKey.get(ATTR_CREATED_AT);
+    AttributeValue imageId = lastEvaluatedKey.get(ATTR_IMAGE_ID);
+    if (createdAt == null || createdAt.s() == null || imageId == null || imageId.s() == null) {
+      return "";
+    }
+    String raw = createdAt.s() + CURSOR_SEPARATOR + imageId.s();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Map<String, AttributeValue> decodeIndexCursor(String cursor) {
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid lastKey");
+    }
+    int separator = raw.indexOf(CURSOR_SEPARATOR);
+    if (separator <= 0 || separator == raw.length() - 1) {
+      throw new IllegalArgumentException("Invalid lastKey");
+    }
+
+    Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
+    exclusiveStartKey.put(ATTR_LIVE, AttributeValue.builder().s(LIVE).build());
+    exclusiveStartKey.put(ATTR_CREATED_AT, AttributeValue.builder().s(raw.substring(0, separator)).build());
+    exclusiveStartKey.put(ATTR_IMAGE_ID, AttributeValue.builder().s(raw.substring(separator + 1)).build());
+    return exclusiveStartKey;
   }
 
   @Override
   public ApiResponse generateUploadUrl(String contentType) {
     logger.debug("Generating upload URL for contentType={}", contentType);
 
-    // Validate contentType
+    validateContentType(contentType);
+    Map<String, String> data = presignUpload(contentType);
+
+    logger.debug("Generated presigned URL for image: {}", data.get("imageID"));
+    return new ApiResponse("success", 200, "Pre-signed URL for S3 upload", data, null);
+  }
+
+  @Override
+  public ApiResponse generateUploadUrls(BatchUploadUrlRequest request) {
+    if (request == null) {
+      throw new IllegalArgumentException("Request body is required");
+    }
+
+    // Expand the explicit list and the per-type counts into one list of content types
+    List<String> contentTypes = new ArrayList<>();
+    if (request.getContentTypes() != null) {
+      contentTypes.addAll(request.getContentTypes());
+    }
+    if (request.getCounts() != null) {
+      for (Map.Entry<String, Integer> e : request.getCounts().entrySet()) {
+        int count = e.getValue() == null ? 0 : e.getValue();
+        if (count < 0 || contentTypes.size() + count > MAX_BATCH_UPLOAD_URLS) {
+          throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_UPLOAD_URLS);
+        }
+        contentTypes.addAll(Collections.nCopies(count, e.getKey()));
+      }
+    }
+    if (contentTypes.isEmpty() || contentTypes.size() > MAX_BATCH_UPLOAD_URLS) {
+      throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_UPLOAD_URLS);
+    }
+    // Validate everything up front so a bad entry fails the batch before any signing work
+    for (String contentType : contentTypes) {
+      validateContentType(contentType);
+    }
+    logger.debug("Generating {} upload URLs", contentTypes.size());
+
+    // Signing is CPU-bound and the presigner is thread-safe, so spread it across cores. Virtual
+    // threads carry the request context and queue for the presigner bulkhead without tying up the
+    // common pool; the permits keep the signing itself to one thread per core
+    List<Future<Map<String, String>>> urls = new ArrayList<>(contentTypes.size());
+    Semaphore permits = new Semaphore(Runtime.getRuntime().availableProcessors());
+    RequestContext context = RequestContext.capture();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (String contentType : contentTypes) {
+        urls.add(executor.submit(() -> context.call(() -> presignWithPermit(contentType, permits))));
+      }
+    }
+    List<Map<String, String>> data = new ArrayList<>(urls.size());
+    for (Future<Map<String, String>> url : urls) {
+      data.add(presignedUrl(url));
+    }
+
+    logger.debug("Generated {} presigned URLs", data.size());
+    return new ApiResponse("success", 200, "Pre-signed URLs for S3 upload", data, null);
+  }
+
+  private static void validateContentType(String contentType) {
     if (contentType == null || contentType.isBlank()) {
       throw new IllegalArgumentException("Content type is required");
     }
@@ -205,7 +673,40 @@ public class PhotoServiceImpl implements PhotoService {
       throw new IllegalArgumentException(
           "Invalid content type. Allowed: " + Constant.getMimeToExt().keySet());
     }
+  }
+
+  private Map<String, String> presignWithPermit(String contentType, Semaphore permits) {
+    permits.acquireUninterruptibly();
+    try {
+      return presignUpload(contentType);
+    } finally {
+      permits.release();
+    }
+  }
 
+  /**
+   * Returns a URL minted by {@link #generateUploadUrls}, failing the batch with the first error.
+   */
+  private static Map<String, String> presignedUrl(Future<Map<String, String>> url) {
+    try {
+      return url.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while generating upload URLs", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Failed to generate upload URL", e.getCause());
+    }
+  }
+
+  /**
+   * Mints a new image ID and a presigned PUT URL for it.
+   *
+   * @return map with "url" and "imageID"
+   */
+  private Map<String, String> presignUpload(String contentType) {
     String uuid =
         NanoIdUtils.randomNanoId(
             NanoIdUtils.DEFAULT_NUMBER_GENERATOR, NanoIdUtils.DEFAULT_ALPHABET, NANO_ID_LENGTH);
@@ -222,26 +723,125 @@ public class PhotoServiceImpl implements PhotoService {
             .build();
 
     PresignedPutObjectRequest presignedRequest =
-        s3Presigner.presignPutObject(
-            presignBuilder ->
-                presignBuilder
-                    .signatureDuration(PRESIGNED_URL_DURATION)
-                    .putObjectRequest(putObjectRequest));
+        awsSdkMetrics.timePresign(
+            "PutObject",
+            () -> bulkheads.presigner().call(
+                () -> s3Presigner.presignPutObject(
+                    presignBuilder ->
+                        presignBuilder
+                            .signatureDuration(PRESIGNED_URL_DURATION)
+                            .putObjectRequest(putObjectRequest))));
 
     URL url = presignedRequest.url();
+    return Map.of("url", url.toString(), "imageID", fileName);
+  }
 
-    logger.info("Generated presigned URL for image: {}", fileName);
+  @Override
+  public ApiResponse savePhotoMetadata(PutPhotoRequest request) {
+    String imageId = request.getImageID();
+    logger.debug("Saving photo metadata for imageId={}", imageId);
 
-    Map<String, String> data = Map.of("url", url.toString(), "imageID", fileName);
-    return new ApiResponse("success", 200, "Pre-signed URL for S3 upload", data, null);
+    try {
+      createPhoto(request);
+      photoPageCache.invalidateAll();
+      logger.info("Saved photo metadata for imageId={}", imageId);
+      return new ApiResponse(
+          "success", 200, "S3 image metadata synced successfully in the database", null, null);
+    } catch (ConditionalCheckFailedException e) {
+      logger.warn("Photo already exists: imageId={}", imageId);
+      return new ApiResponse("error", 409, "Image already exists", null, e.getMessage());
+    }
   }
 
   @Override
-  public ApiResponse savePhotoMetadata(PutPhotoRequest request) {
+  public ApiResponse savePhotoMetadataBatch(BatchPutPhotoRequest request) {
+    if (request == null || request.getPhotos() == null || request.getPhotos().isEmpty()) {
+      throw new IllegalArgumentException("At least one photo is required");
+    }
+    List<PutPhotoRequest> photos = request.getPhotos();
+    logger.debug("Saving photo metadata batch of {}", photos.size());
+
+    // Each distinct ID gets its own conditional put: BatchWriteItem cannot carry attribute_not_exists,
+    // and checking first would let a concurrent save of the same ID be silently overwritten
+    Map<String, Future<Map<String, Object>>> outcomes = new LinkedHashMap<>();
+    Semaphore permits = new Semaphore(Math.max(1, photoProperties.getBulkSaveConcurrency()));
+    RequestContext context = RequestContext.capture();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (PutPhotoRequest photo : photos) {
+        outcomes.computeIfAbsent(
+            photo.getImageID(), id -> executor.submit(() -> context.call(() -> saveWithPermit(photo, permits))));
+      }
+    }
+
+    // Repeated IDs in the request are reported as duplicates of the first occurrence
+    List<Map<String, Object>> data = new ArrayList<>(photos.size());
+    Set<String> reported = new HashSet<>();
+    int created = 0;
+    for (PutPhotoRequest photo : photos) {
+      String imageId = photo.getImageID();
+      if (!reported.add(imageId)) {
+        data.add(itemResult(imageId, 409, "Duplicate in request"));
+        continue;
+      }
+      Map<String, Object> result = outcomeOf(imageId, outcomes.get(imageId), "Save failed");
+      data.add(result);
+      if ((int) result.get("code") == 200) {
+        created++;
+      }
+    }
+
+    if (created > 0) {
+      photoPageCache.invalidateAll();
+    }
+
+    logger.info("Saved photo metadata batch: {} of {} created", created, photos.size());
+    return new ApiResponse(
+        "success", 200, String.format("Saved %d of %d photos", created, photos.size()), data, null);
+  }
+
+  private static Map<String, Object> itemResult(String imageId, int code, String message) {
+    return Map.of("imageID", imageId, "code", code, "message", message);
+  }
+
+  private Map<String, Object> saveWithPermit(PutPhotoRequest photo, Semaphore permits) {
+    String imageId = photo.getImageID();
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return itemResult(imageId, 500, "Interrupted");
+    }
+    try {
+      createPhoto(photo);
+      return itemResult(imageId, 200, "Saved");
+    } catch (ConditionalCheckFailedException e) {
+      return itemResult(imageId, 409, "Image already exists");
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Writes the item for a new photo, only if no item with its image ID exists yet.
+   *
+   * @throws ConditionalCheckFailedException if the image ID is already taken
+   */
+  private void createPhoto(PutPhotoRequest request) {
+    dynamoDbClient.putItem(
+        PutItemRequest.builder()
+            .tableName(awsProperties.getPhotoTable())
+            .item(buildPhotoItem(request))
+            .conditionExpression("attribute_not_exists(" + ATTR_IMAGE_ID + ")")
+            .build());
+  }
+
+  /**
+   * Builds the tbl_photo item for a new photo, including optional EXIF fields.
+   */
+  private Map<String, AttributeValue> buildPhotoItem(PutPhotoRequest request) {
     String imageId = request.getImageID();
     String fileName = request.getFileName();
     String sizeBytes = request.getSizeBytes();
-    logger.debug("Saving photo metadata for imageId={}", imageId);
 
     // S3 key is just the imageId (file name), not bucket/imageId
     String s3Key = imageId;
@@ -254,10 +854,11 @@ public class PhotoServiceImpl implements PhotoService {
     item.put(ATTR_FILE_NAME, AttributeValue.builder().s(fileName).build());
     item.put("s3Key", AttributeValue.builder().s(s3Key).build());
     item.put("contentType", AttributeValue.builder().s(contentType).build());
-    item.put("createdAt", AttributeValue.builder().s(now).build());
+    item.put(ATTR_CREATED_AT, AttributeValue.builder().s(now).build());
     item.put("sizeBytes", AttributeValue.builder().s(sizeBytes).build());
     item.put(ATTR_IS_DELETED, AttributeValue.builder().bool(false).build());
     item.put(ATTR_CLOUD_FRONT, AttributeValue.builder().s(cdn).build());
+    item.put(ATTR_LIVE, AttributeValue.builder().s(LIVE).build());
 
     // Optional EXIF from client-side extraction on upload
     if (hasValue(request.getTitle())) {
@@ -290,23 +891,7 @@ public class PhotoServiceImpl implements PhotoService {
     if (hasValue(request.getDateTaken())) {
       item.put(ATTR_DATE_TAKEN, AttributeValue.builder().s(request.getDateTaken().trim()).build());
     }
-
-    PutItemRequest putRequest =
-        PutItemRequest.builder()
-            .tableName(awsProperties.getPhotoTable())
-            .item(item)
-            .conditionExpression("attribute_not_exists(" + ATTR_IMAGE_ID + ")")
-            .build();
-
-    try {
-      dynamoDbClient.putItem(putRequest);
-      logger.info("Saved photo metadata for imageId={}", imageId);
-      return new ApiResponse(
-          "success", 200, "S3 image metadata synced successfully in the database", null, null);
-    } catch (ConditionalCheckFailedException e) {
-      logger.warn("Photo already exists: imageId={}", imageId);
-      return new ApiResponse("error", 409, "Image already exists", null, e.getMessage());
-    }
+    return item;
   }
 
   @Override
@@ -396,6 +981,8 @@ public class PhotoServiceImpl implements PhotoService {
 
     try {
       dynamoDbClient.updateItem(updateRequest);
+      photoItemCache.invalidate(imageId);
+      photoPageCache.invalidateAll();
       logger.info("Updated photo metadata for imageId={}", imageId);
       return new ApiResponse(
           "success", 200, "Photo metadata updated successfully", null, null);
@@ -417,6 +1004,154 @@ public class PhotoServiceImpl implements PhotoService {
       throw new IllegalArgumentException("Image ID is required");
     }
 
+    try {
+      softDelete(imageId);
+      photoPageCache.invalidateAll();
+      logger.info("Deleted photo with imageId={}", imageId);
+      return new ApiResponse("success", 200, "Photo deleted successfully", null, null);
+    } catch (ConditionalCheckFailedException e) {
+      logger.warn("Photo not found: imageId={}", imageId);
+      return new ApiResponse("error", 404, "Photo not found", null, e.getMessage());
+    }
+  }
+
+  @Override
+  public ApiResponse deletePhotos(BatchDeletePhotoRequest request) {
+    if (request == null || request.getImageIDs() == null || request.getImageIDs().isEmpty()) {
+      throw new IllegalArgumentException("At least one image ID is required");
+    }
+    List<String> imageIds = request.getImageIDs();
+    for (String imageId : imageIds) {
+      if (imageId == null || imageId.isBlank()) {
+        throw new IllegalArgumentException("Image ID is required");
+      }
+    }
+    logger.debug("Deleting {} photos", imageIds.size());
+
+    // Each distinct ID is deleted once; repeats share its outcome
+    Map<String, Future<Map<String, Object>>> outcomes = new LinkedHashMap<>();
+    Semaphore permits = new Semaphore(Math.max(1, photoProperties.getBulkDeleteConcurrency()));
+    RequestContext context = RequestContext.capture();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (String imageId : imageIds) {
+        outcomes.computeIfAbsent(
+            imageId, id -> executor.submit(() -> context.call(() -> deleteWithPermit(id, permits))));
+      }
+    }
+
+    List<Map<String, Object>> data = new ArrayList<>(imageIds.size());
+    int deleted = 0;
+    for (String imageId : imageIds) {
+      Map<String, Object> result = outcomeOf(imageId, outcomes.get(imageId), "Delete failed");
+      data.add(result);
+      if ((int) result.get("code") == 200) {
+        deleted++;
+      }
+    }
+
+    if (deleted > 0) {
+      photoPageCache.invalidateAll();
+    }
+
+    logger.info("Deleted {} of {} photos", deleted, imageIds.size());
+    return new ApiResponse(
+        "success", 200, String.format("Deleted %d of %d photos", deleted, imageIds.size()), data, null);
+  }
+
+  private Map<String, Object> deleteWithPermit(String imageId, Semaphore permits) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return itemResult(imageId, 500, "Interrupted");
+    }
+    try {
+      softDelete(imageId);
+      return itemResult(imageId, 200, "Deleted");
+    } catch (ConditionalCheckFailedException e) {
+      return itemResult(imageId, 404, "Photo not found");
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static Map<String, Object> outcomeOf(
+      String imageId, Future<Map<String, Object>> outcome, String failureMessage) {
+    try {
+      return outcome.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return itemResult(imageId, 500, "Interrupted");
+    } catch (ExecutionException e) {
+      logger.warn("{} for imageId={}: {}", failureMessage, imageId, e.getCause().getMessage());
+      return itemResult(imageId, 500, failureMessage);
+    }
+  }
+
+  @Override
+  public ApiResponse backfillLiveKeys(String lastKey, Integer pageSize) {
+    int limit = pageSize == null || pageSize <= 0 ? BACKFILL_PAGE_SIZE : Math.min(pageSize, MAX_BACKFILL_PAGE_SIZE);
+    Map<String, String> names = Map.of(P_IMAGE_ID, ATTR_IMAGE_ID, P_IS_DELETED, ATTR_IS_DELETED, P_LIVE, ATTR_LIVE);
+    Map<String, AttributeValue> values = Map.of(
+        ":notDeleted", AttributeValue.builder().bool(false).build(),
+        ":live", AttributeValue.builder().s(LIVE).build());
+    // Same predicate as the gallery scan, limited to items written before liveKey existed
+    String missing = "attribute_not_exists(" + P_LIVE + ") AND " + P_IS_DELETED + " = :notDeleted";
+
+    ScanRequest.Builder scan =
+        ScanRequest.builder()
+            .tableName(awsProperties.getPhotoTable())
+            .projectionExpression(P_IMAGE_ID)
+            .filterExpression(missing)
+            .expressionAttributeNames(names)
+            .expressionAttributeValues(Map.of(":notDeleted", values.get(":notDeleted")))
+            .limit(limit);
+    if (lastKey != null && !lastKey.isEmpty()) {
+      scan.exclusiveStartKey(scanStartKey(lastKey));
+    }
+    ScanResponse response = dynamoDbClient.scan(scan.build());
+
+    int updated = 0;
+    for (Map<String, AttributeValue> item : response.items()) {
+      try {
+        // Re-checked on write, so a photo deleted since the scan is not brought back
+        dynamoDbClient.updateItem(
+            UpdateItemRequest.builder()
+                .tableName(awsProperties.getPhotoTable())
+                .key(Map.of(ATTR_IMAGE_ID, item.get(ATTR_IMAGE_ID)))
+                .updateExpression("SET " + P_LIVE + " = :live")
+                .conditionExpression("attribute_exists(" + P_IMAGE_ID + ") AND " + missing)
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .build());
+        updated++;
+      } catch (ConditionalCheckFailedException e) {
+        logger.debug("Skipped liveKey backfill for imageId={}: changed since the scan", item.get(ATTR_IMAGE_ID).s());
+      }
+    }
+    if (updated > 0) {
+      photoPageCache.invalidateAll();
+    }
+
+    Map<String, AttributeValue> responseLastKey = response.lastEvaluatedKey();
+    String nextKey = responseLastKey == null || responseLastKey.isEmpty() ? "" : scanCursor(responseLastKey);
+    int scanned = response.scannedCount() == null ? 0 : response.scannedCount();
+    logger.info("Backfilled liveKey on {} photos (scanned={}), nextKey={}", updated, scanned, nextKey);
+
+    Map<String, Object> data = Map.of(
+        "scanned", scanned,
+        "updated", updated,
+        "lastKey", nextKey,
+        "hasMore", !nextKey.isEmpty());
+    return new ApiResponse("success", 200, String.format("Backfilled %d photos", updated), data, null);
+  }
+
+  /**
+   * Marks a photo as deleted and evicts it from the item cache.
+   *
+   * @throws ConditionalCheckFailedException if the photo does not exist
+   */
+  private void softDelete(String imageId) {
     Map<String, AttributeValue> key = new HashMap<>();
     key.put(ATTR_IMAGE_ID, AttributeValue.builder().s(imageId).build());
 
@@ -427,18 +1162,13 @@ public class PhotoServiceImpl implements PhotoService {
         UpdateItemRequest.builder()
             .tableName(awsProperties.getPhotoTable())
             .key(key)
-            .updateExpression("SET " + ATTR_IS_DELETED + " = :deleted")
+            // Dropping the live attribute removes the photo from the sparse live-photo index
+            .updateExpression("SET " + ATTR_IS_DELETED + " = :deleted REMOVE " + ATTR_LIVE)
             .expressionAttributeValues(expressionAttributeValues)
             .conditionExpression("attribute_exists(" + ATTR_IMAGE_ID + ")")
             .build();
 
-    try {
-      dynamoDbClient.updateItem(updateRequest);
-      logger.info("Deleted photo with imageId={}", imageId);
-      return new ApiResponse("success", 200, "Photo deleted successfully", null, null);
-    } catch (ConditionalCheckFailedException e) {
-      logger.warn("Photo not found: imageId={}", imageId);
-      return new ApiResponse("error", 404, "Photo not found", null, e.getMessage());
-    }
+    dynamoDbClient.updateItem(updateRequest);
+    photoItemCache.invalidate(imageId);
   }
 }
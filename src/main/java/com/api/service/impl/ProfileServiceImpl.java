@@ -1,16 +1,24 @@
 package com.api.service.impl;
 
+import com.api.cache.SingleFlight;
 import com.api.common.ApiResponse;
 import com.api.common.Constant;
 import com.api.config.AwsProperties;
+import com.api.config.ProfileProperties;
 import com.api.dto.request.SiteMessageRequest;
 import com.api.dto.request.SocialLinksRequest;
+import com.api.metrics.AwsSdkMetrics;
+import com.api.resilience.Bulkheads;
+import com.api.resilience.CircuitBreaker;
+import com.api.resilience.Hedger;
 import com.api.service.ProfileService;
 import com.api.util.DateTimeUtil;
 import java.net.URL;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -18,7 +26,9 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
@@ -47,16 +57,55 @@ public class ProfileServiceImpl implements ProfileService {
   private final DynamoDbClient dynamoDbClient;
   private final S3Presigner s3Presigner;
   private final AwsProperties awsProperties;
+  private final SingleFlight singleFlight;
+  private final Bulkheads bulkheads;
+  private final AwsSdkMetrics awsSdkMetrics;
+  private final Hedger hedger;
+  private final long snapshotTtlNanos;
+
+  /**
+   * Social links and site message of the "main" profile item, read together in one GetItem.
+   * Stale when served past its TTL because DynamoDB was unavailable.
+   */
+  private record ProfileSnapshot(
+      Map<String, String> socialLinks, Map<String, String> siteMessage, long loadedAtNanos, boolean stale) {
+
+    ProfileSnapshot asStale() {
+      return new ProfileSnapshot(socialLinks, siteMessage, loadedAtNanos, true);
+    }
+
+    ApiResponse respond(String message, Object data) {
+      ApiResponse response = new ApiResponse(STATUS_SUCCESS, 200, message, data, null);
+      return stale ? response.asStale() : response;
+    }
+  }
 
-  public ProfileServiceImpl(DynamoDbClient dynamoDbClient, S3Presigner s3Presigner, AwsProperties awsProperties) {
+  private final AtomicReference<ProfileSnapshot> snapshot = new AtomicReference<>();
+  // Bumped after every write has replaced the snapshot, so reads that overlapped it are discarded
+  private final AtomicLong writeGeneration = new AtomicLong();
+
+  public ProfileServiceImpl(
+      DynamoDbClient dynamoDbClient,
+      S3Presigner s3Presigner,
+      AwsProperties awsProperties,
+      ProfileProperties profileProperties,
+      SingleFlight singleFlight,
+      Bulkheads bulkheads,
+      AwsSdkMetrics awsSdkMetrics,
+      Hedger hedger) {
     this.dynamoDbClient = dynamoDbClient;
     this.s3Presigner = s3Presigner;
     this.awsProperties = awsProperties;
+    this.singleFlight = singleFlight;
+    this.bulkheads = bulkheads;
+    this.awsSdkMetrics = awsSdkMetrics;
+    this.hedger = hedger;
+    this.snapshotTtlNanos = profileProperties.getSnapshotTtl().toNanos();
   }
 
   @Override
   public ApiResponse getSelfie() {
-    logger.info("Getting selfie URL");
+    logger.debug("Getting selfie URL");
 
     String selfieUrl = awsProperties.getAssetsCloudFront() + Constant.getSelfieKey();
 
@@ -66,7 +115,7 @@ public class ProfileServiceImpl implements ProfileService {
 
   @Override
   public ApiResponse getSelfieUploadUrl(String contentType) {
-    logger.info("Generating presigned URL for selfie upload with contentType={}", contentType);
+    logger.debug("Generating presigned URL for selfie upload with contentType={}", contentType);
 
     if (!Constant.getAllowedSelfieMimeTypes().contains(contentType)) {
       throw new IllegalArgumentException(
@@ -78,7 +127,7 @@ public class ProfileServiceImpl implements ProfileService {
 
   @Override
   public ApiResponse getResume() {
-    logger.info("Getting resume URL");
+    logger.debug("Getting resume URL");
 
     String resumeUrl = awsProperties.getAssetsCloudFront() + Constant.getResumeKey();
 
@@ -88,44 +137,70 @@ public class ProfileServiceImpl implements ProfileService {
 
   @Override
   public ApiResponse getResumeUploadUrl() {
-    logger.info("Generating presigned URL for resume upload");
+    logger.debug("Generating presigned URL for resume upload");
     return generatePresignedUrl(Constant.getResumeKey(), "application/pdf", "resume");
   }
 
   @Override
-  public ApiResponse getSocialLinks() {
-    logger.info("Getting social links");
+  public ApiResponse getProfile() {
+    logger.debug("Getting profile snapshot");
 
-    Map<String, AttributeValue> key = new HashMap<>();
-    key.put(ATTR_PROFILE_ID, AttributeValue.builder().s(PROFILE_ID).build());
-
-    GetItemRequest getRequest =
-        GetItemRequest.builder()
-            .tableName(awsProperties.getProfileTable())
-            .key(key)
-            .projectionExpression(String.join(", ", ATTR_GITHUB, ATTR_LINKEDIN))
-            .build();
+    ProfileSnapshot current = snapshot();
 
-    GetItemResponse response = dynamoDbClient.getItem(getRequest);
+    Map<String, Object> data =
+        Map.of(
+            "socialLinks", current.socialLinks(),
+            "siteMessage", current.siteMessage(),
+            "selfie", Map.of("url", awsProperties.getAssetsCloudFront() + Constant.getSelfieKey()),
+            "resume", Map.of("url", awsProperties.getAssetsCloudFront() + Constant.getResumeKey()));
 
-    Map<String, String> responseData = new HashMap<>();
-    Map<String, AttributeValue> item = response.item();
+    return current.respond("Profile retrieved successfully", data);
+  }
 
-    if (item != null && !item.isEmpty()) {
-      if (item.containsKey(ATTR_GITHUB)) {
-        responseData.put(ATTR_GITHUB, item.get(ATTR_GITHUB).s());
-      }
-      if (item.containsKey(ATTR_LINKEDIN)) {
-        responseData.put(ATTR_LINKEDIN, item.get(ATTR_LINKEDIN).s());
-      }
-    }
+  @Override
+  public ApiResponse getSocialLinks() {
+    logger.debug("Getting social links");
 
-    return new ApiResponse(STATUS_SUCCESS, 200, "Social links retrieved successfully", responseData, null);
+    ProfileSnapshot current = snapshot();
+    return current.respond("Social links retrieved successfully", current.socialLinks());
   }
 
   @Override
   public ApiResponse getSiteMessage() {
-    logger.info("Getting site message");
+    logger.debug("Getting site message");
+
+    ProfileSnapshot current = snapshot();
+    return current.respond("Site message retrieved successfully", current.siteMessage());
+  }
+
+  /**
+   * Returns the cached profile snapshot, re-reading the profile item once the TTL has passed.
+   * While DynamoDB is unavailable the expired snapshot is served, flagged stale.
+   */
+  private ProfileSnapshot snapshot() {
+    ProfileSnapshot current = snapshot.get();
+    if (current != null && System.nanoTime() - current.loadedAtNanos() < snapshotTtlNanos) {
+      return current;
+    }
+    try {
+      // Concurrent requests on an expired snapshot share a single GetItem
+      return singleFlight.execute("profile", PROFILE_ID, this::loadSnapshot);
+    } catch (RuntimeException e) {
+      if (current == null || !CircuitBreaker.isUnavailable(e)) {
+        throw e;
+      }
+      logger.warn("Serving stale profile snapshot: {}", e.getMessage());
+      return current.asStale();
+    }
+  }
+
+  /**
+   * Reads the profile item and caches it, unless a write replaced the snapshot while the GetItem
+   * was in flight: the read may predate the write, so the written snapshot is kept.
+   */
+  private ProfileSnapshot loadSnapshot() {
+    long generation = writeGeneration.get();
+    ProfileSnapshot previous = snapshot.get();
 
     Map<String, AttributeValue> key = new HashMap<>();
     key.put(ATTR_PROFILE_ID, AttributeValue.builder().s(PROFILE_ID).build());
@@ -134,24 +209,54 @@ public class ProfileServiceImpl implements ProfileService {
         GetItemRequest.builder()
             .tableName(awsProperties.getProfileTable())
             .key(key)
-            .projectionExpression(ATTR_SITE_MESSAGE)
+            .projectionExpression(String.join(", ", ATTR_GITHUB, ATTR_LINKEDIN, ATTR_SITE_MESSAGE))
             .build();
 
-    GetItemResponse response = dynamoDbClient.getItem(getRequest);
+    GetItemResponse response = hedger.call("profile", () -> dynamoDbClient.getItem(getRequest));
+    ProfileSnapshot loaded = toSnapshot(response.item());
+    if (writeGeneration.get() == generation && snapshot.compareAndSet(previous, loaded)) {
+      logger.debug("Loaded profile snapshot from DynamoDB");
+      return loaded;
+    }
+    logger.debug("Discarded profile snapshot read overlapping a write");
+    return snapshot.get();
+  }
 
-    Map<String, String> responseData = new HashMap<>();
-    Map<String, AttributeValue> item = response.item();
+  /**
+   * Caches the snapshot built from a write's ALL_NEW attributes. The snapshot is replaced before
+   * the generation is bumped, so an overlapping read either sees the new generation or fails its
+   * compare-and-set.
+   */
+  private void applyWrite(Map<String, AttributeValue> item) {
+    snapshot.set(toSnapshot(item));
+    writeGeneration.incrementAndGet();
+  }
 
-    if (item != null && item.containsKey(ATTR_SITE_MESSAGE)) {
-      responseData.put("message", item.get(ATTR_SITE_MESSAGE).s());
+  /**
+   * Builds a snapshot from a profile item (from GetItem or an ALL_NEW update).
+   */
+  private static ProfileSnapshot toSnapshot(Map<String, AttributeValue> item) {
+    Map<String, String> socialLinks = new HashMap<>();
+    Map<String, String> siteMessage = new HashMap<>();
+
+    if (item != null && !item.isEmpty()) {
+      if (item.containsKey(ATTR_GITHUB)) {
+        socialLinks.put(ATTR_GITHUB, item.get(ATTR_GITHUB).s());
+      }
+      if (item.containsKey(ATTR_LINKEDIN)) {
+        socialLinks.put(ATTR_LINKEDIN, item.get(ATTR_LINKEDIN).s());
+      }
+      if (item.containsKey(ATTR_SITE_MESSAGE)) {
+        siteMessage.put("message", item.get(ATTR_SITE_MESSAGE).s());
+      }
     }
 
-    return new ApiResponse(STATUS_SUCCESS, 200, "Site message retrieved successfully", responseData, null);
+    return new ProfileSnapshot(Map.copyOf(socialLinks), Map.copyOf(siteMessage), System.nanoTime(), false);
   }
 
   @Override
   public ApiResponse saveSocialLinks(SocialLinksRequest request) {
-    logger.info("Saving social links to profile");
+    logger.debug("Saving social links to profile");
 
     if (!request.hasAtLeastOneLink()) {
       throw new IllegalArgumentException("At least one social link must be provided");
@@ -182,9 +287,11 @@ public class ProfileServiceImpl implements ProfileService {
             .key(key)
             .updateExpression(updateExpression.toString())
             .expressionAttributeValues(expressionAttributeValues)
+            .returnValues(ReturnValue.ALL_NEW)
             .build();
 
-    dynamoDbClient.updateItem(updateRequest);
+    UpdateItemResponse updateResponse = dynamoDbClient.updateItem(updateRequest);
+    applyWrite(updateResponse.attributes());
     logger.info("Successfully saved social links");
 
     Map<String, String> responseData = new HashMap<>();
@@ -201,7 +308,7 @@ public class ProfileServiceImpl implements ProfileService {
 
   @Override
   public ApiResponse saveSiteMessage(SiteMessageRequest request) {
-    logger.info("Saving site message to profile");
+    logger.debug("Saving site message to profile");
 
     if (request.getMessage() == null || request.getMessage().isBlank()) {
       throw new IllegalArgumentException("Message cannot be blank");
@@ -225,9 +332,11 @@ public class ProfileServiceImpl implements ProfileService {
             .key(key)
             .updateExpression(updateExpression)
             .expressionAttributeValues(expressionAttributeValues)
+            .returnValues(ReturnValue.ALL_NEW)
             .build();
 
-    dynamoDbClient.updateItem(updateRequest);
+    UpdateItemResponse updateResponse = dynamoDbClient.updateItem(updateRequest);
+    applyWrite(updateResponse.attributes());
     logger.info("Successfully saved site message");
 
     Map<String, String> responseData = Map.of(
@@ -246,14 +355,17 @@ public class ProfileServiceImpl implements ProfileService {
             .build();
 
     PresignedPutObjectRequest presignedRequest =
-        s3Presigner.presignPutObject(
-            presignBuilder ->
-                presignBuilder
-                    .signatureDuration(PRESIGNED_URL_DURATION)
-                    .putObjectRequest(putObjectRequest));
+        awsSdkMetrics.timePresign(
+            "PutObject",
+            () -> bulkheads.presigner().call(
+                () -> s3Presigner.presignPutObject(
+                    presignBuilder ->
+                        presignBuilder
+                            .signatureDuration(PRESIGNED_URL_DURATION)
+                            .putObjectRequest(putObjectRequest))));
 
     URL presignedUrl = presignedRequest.url();
-    logger.info("Successfully generated presigned URL for {} upload", assetType);
+    logger.debug("Successfully generated presigned URL for {} upload", assetType);
 
     Map<String, String> data =
         Map.of(
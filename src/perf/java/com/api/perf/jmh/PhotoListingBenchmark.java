@@ -0,0 +1,78 @@
+package com.api.perf.jmh;
+
+import com.api.dto.response.PhotoResponse;
+import com.api.perf.support.PerfFixtures;
+import com.api.service.impl.PhotoServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+/**
+ * Per-page CPU and allocation cost of {@code PhotoServiceImpl.getPhotos}: request building
+ * and item mapping. The client returns one prebuilt page, so DynamoDB work is excluded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhotoListingBenchmark {
+
+  @Param({"10", "100"})
+  public int pageSize;
+
+  private PhotoServiceImpl photoService;
+
+  @Setup
+  public void setup() {
+    List<Map<String, AttributeValue>> items = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      Map<String, AttributeValue> item = PerfFixtures.photoItem(i, false);
+      // Match the listing projection: the real Scan never returns these
+      item.keySet().removeAll(List.of("s3Key", "contentType", "createdAt", "sizeBytes", "isDeleted", "liveKey"));
+      items.add(Map.copyOf(item));
+    }
+    ScanResponse page = ScanResponse.builder().items(items).count(pageSize).scannedCount(pageSize).build();
+
+    DynamoDbClient fixedPageClient =
+        new DynamoDbClient() {
+          @Override
+          public ScanResponse scan(ScanRequest request) {
+            return page;
+          }
+
+          @Override
+          public String serviceName() {
+            return SERVICE_NAME;
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    photoService =
+        PerfFixtures.photoService(fixedPageClient, PerfFixtures.offlinePresigner(), PerfFixtures.uncachedPhotoProperties());
+  }
+
+  @Benchmark
+  public PhotoResponse firstPage() {
+    return photoService.getPhotos(null, pageSize);
+  }
+}
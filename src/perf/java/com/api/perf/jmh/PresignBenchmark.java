@@ -0,0 +1,51 @@
+package com.api.perf.jmh;
+
+import com.api.common.ApiResponse;
+import com.api.perf.support.PerfFixtures;
+import com.api.service.impl.PhotoServiceImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Cost of minting one upload URL through {@code PhotoServiceImpl.generateUploadUrl},
+ * dominated by SigV4 signing in the real {@link S3Presigner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PresignBenchmark {
+
+  private S3Presigner presigner;
+  private PhotoServiceImpl photoService;
+
+  @Setup
+  public void setup() {
+    presigner = PerfFixtures.offlinePresigner();
+    photoService =
+        PerfFixtures.photoService(PerfFixtures.seededDynamoDb(0), presigner, PerfFixtures.uncachedPhotoProperties());
+  }
+
+  @TearDown
+  public void tearDown() {
+    presigner.close();
+  }
+
+  @Benchmark
+  public ApiResponse uploadUrl() {
+    return photoService.generateUploadUrl("image/jpeg");
+  }
+}
@@ -0,0 +1,66 @@
+package com.api.perf.jmh;
+
+import com.api.common.ApiResponse;
+import com.api.dto.response.PhotoResponse;
+import com.api.perf.support.PerfFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson serialization cost of the response bodies the controllers return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"10", "100"})
+  public int pageSize;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private PhotoResponse photoPage;
+  private ApiResponse socialLinks;
+
+  @Setup
+  public void setup() {
+    photoPage =
+        PerfFixtures.photoService(
+                PerfFixtures.seededDynamoDb(pageSize * 2),
+                PerfFixtures.offlinePresigner(),
+                PerfFixtures.uncachedPhotoProperties())
+            .getPhotos(null, pageSize);
+    socialLinks =
+        new ApiResponse(
+            "success",
+            200,
+            "Social links retrieved successfully",
+            Map.of("github", "https://github.com/example", "linkedin", "https://linkedin.com/in/example"),
+            null);
+  }
+
+  @Benchmark
+  public byte[] photoResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(photoPage);
+  }
+
+  @Benchmark
+  public byte[] apiResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(socialLinks);
+  }
+}
@@ -0,0 +1,60 @@
+package com.api.perf.jmh;
+
+import com.api.common.ApiResponse;
+import com.api.dto.request.PatchPhotoRequest;
+import com.api.perf.support.PerfFixtures;
+import com.api.service.impl.PhotoServiceImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@code PhotoServiceImpl.updatePhotoMetadata}: validation and update-expression building
+ * for a full EXIF edit, applied to the in-memory table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateMetadataBenchmark {
+
+  private static final String IMAGE_ID = "img00000020240115.jpg";
+
+  private PhotoServiceImpl photoService;
+  private PatchPhotoRequest request;
+
+  @Setup
+  public void setup() {
+    photoService =
+        PerfFixtures.photoService(
+            PerfFixtures.seededDynamoDb(1), PerfFixtures.offlinePresigner(), PerfFixtures.uncachedPhotoProperties());
+
+    request = new PatchPhotoRequest();
+    request.setFileName("DSC_0001.jpg");
+    request.setTitle("Morning in Gion");
+    request.setDescription("Lanterns along Hanamikoji before the shops open");
+    request.setCamera("Fujifilm X-T5");
+    request.setLens("XF 23mm F1.4 R LM WR");
+    request.setAperture("f/2.8");
+    request.setShutter("1/250");
+    request.setIso("400");
+    request.setFocalLength("23mm");
+    request.setLocation("Kyoto, Japan");
+    request.setDateTaken("2024-01-14T08:30:00Z");
+  }
+
+  @Benchmark
+  public ApiResponse updateAllFields() {
+    return photoService.updatePhotoMetadata(IMAGE_ID, request);
+  }
+}
@@ -0,0 +1,243 @@
+package com.api.perf.load;
+
+import com.api.App;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Open-loop load generator for the API.
+ *
+ * <p>Boots the application on a random port with in-memory DynamoDB and S3 presigner stand-ins
+ * (or targets a running instance with {@code --target}), replays a weighted request mix at a
+ * fixed arrival rate and reports throughput and latency percentiles per endpoint. Latency is
+ * measured from each request's scheduled start, so a stalled server is not hidden by the
+ * generator slowing down (coordinated omission).
+ *
+ * <p>Options (all {@code --name=value}):
+ * <ul>
+ *   <li>{@code rate} - requests per second (default 200)</li>
+ *   <li>{@code duration} / {@code warmup} - seconds to measure / discard (default 30 / 10)</li>
+ *   <li>{@code mix} - weights, e.g. {@code images:60,social-links:15,site-message:15,upload-url:10}</li>
+ *   <li>{@code max-in-flight} - cap on outstanding requests; excess arrivals are counted as dropped</li>
+ *   <li>{@code target} - base URL of a running instance instead of booting one</li>
+ *   <li>{@code photos} - photos seeded into the in-memory table (default 1000)</li>
+ *   <li>{@code dynamo-latency-ms} - simulated round trip of every in-memory DynamoDB call (default 0)</li>
+ * </ul>
+ * Any {@code --spring.*}, {@code --server.*} or {@code --app.*} option is passed to the booted application.
+ */
+public final class LoadTest {
+
+  private static final String DEFAULT_MIX = "images:60,social-links:15,site-message:15,upload-url:10";
+
+  private enum Endpoint {
+    IMAGES("images", "GET", "/v1/images?page=10"),
+    SOCIAL_LINKS("social-links", "GET", "/v1/social-links"),
+    SITE_MESSAGE("site-message", "GET", "/v1/site-message"),
+    UPLOAD_URL("upload-url", "PUT", "/v1/images?contentType=image/jpeg");
+
+    private final String name;
+    private final String method;
+    private final String path;
+
+    Endpoint(String name, String method, String path) {
+      this.name = name;
+      this.method = method;
+      this.path = path;
+    }
+
+    static Endpoint of(String name) {
+      for (Endpoint endpoint : values()) {
+        if (endpoint.name.equals(name)) {
+          return endpoint;
+        }
+      }
+      throw new IllegalArgumentException("Unknown endpoint in mix: " + name);
+    }
+  }
+
+  /** Outcome of one scheduled request; latency is -1 when dropped. */
+  private record Sample(Endpoint endpoint, long latencyNanos, int status) {}
+
+  private LoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new HashMap<>();
+    List<String> springArgs = new ArrayList<>();
+    for (String arg : args) {
+      if (arg.startsWith("--spring.") || arg.startsWith("--server.") || arg.startsWith("--app.")) {
+        springArgs.add(arg);
+      } else if (arg.startsWith("--") && arg.contains("=")) {
+        options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+      }
+    }
+
+    int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+    int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+    int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+    int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+    Endpoint[] mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+
+    ConfigurableApplicationContext context = null;
+    String target = options.get("target");
+    if (target == null) {
+      springArgs.add("--perf.photos=" + options.getOrDefault("photos", "1000"));
+      springArgs.add("--perf.dynamo-latency-ms=" + options.getOrDefault("dynamo-latency-ms", "0"));
+      context = boot(springArgs.toArray(String[]::new));
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      target = "http://localhost:" + port;
+    }
+
+    HttpClient client =
+        HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    try {
+      System.out.printf("Target %s, %d req/s, mix %s%n", target, rate, options.getOrDefault("mix", DEFAULT_MIX));
+      System.out.printf("Warming up for %ds...%n", warmup);
+      run(client, target, mix, rate, warmup, maxInFlight);
+      System.out.printf("Measuring for %ds...%n", duration);
+      Sample[] samples = run(client, target, mix, rate, duration, maxInFlight);
+      report(samples, duration);
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+    }
+  }
+
+  private static ConfigurableApplicationContext boot(String[] springArgs) {
+    return new SpringApplicationBuilder(App.class, StandInAwsConfig.class)
+        .properties(
+            "server.port=0",
+            "server.ssl.enabled=false",
+            "logging.level.com.api=WARN")
+        .run(springArgs);
+  }
+
+  /**
+   * Expands "name:weight,..." into a lookup table so picking an endpoint is one random index.
+   */
+  private static Endpoint[] parseMix(String mix) {
+    List<Endpoint> table = new ArrayList<>();
+    for (String part : mix.split(",")) {
+      String[] nameWeight = part.trim().split(":");
+      Endpoint endpoint = Endpoint.of(nameWeight[0]);
+      int weight = nameWeight.length > 1 ? Integer.parseInt(nameWeight[1]) : 1;
+      for (int i = 0; i < weight; i++) {
+        table.add(endpoint);
+      }
+    }
+    if (table.isEmpty()) {
+      throw new IllegalArgumentException("Empty request mix");
+    }
+    return table.toArray(Endpoint[]::new);
+  }
+
+  private static Sample[] run(
+      HttpClient client, String target, Endpoint[] mix, int rate, int seconds, int maxInFlight)
+      throws InterruptedException {
+    int total = rate * seconds;
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    Sample[] samples = new Sample[total];
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    CountDownLatch done = new CountDownLatch(total);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < total; i++) {
+      long scheduled = start + i * intervalNanos;
+      long wait = scheduled - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+
+      Endpoint endpoint = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+      if (!inFlight.tryAcquire()) {
+        samples[i] = new Sample(endpoint, -1, 0);
+        done.countDown();
+        continue;
+      }
+
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create(target + endpoint.path))
+              .method(endpoint.method, HttpRequest.BodyPublishers.noBody())
+              .timeout(Duration.ofSeconds(30))
+              .build();
+      int index = i;
+      client
+          .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .whenComplete(
+              (response, error) -> {
+                int status = error != null ? 0 : response.statusCode();
+                samples[index] = new Sample(endpoint, System.nanoTime() - scheduled, status);
+                inFlight.release();
+                done.countDown();
+              });
+    }
+    done.await(1, TimeUnit.MINUTES);
+    return samples;
+  }
+
+  private static void report(Sample[] samples, int seconds) {
+    System.out.printf("%n%-14s %8s %8s %8s %10s %9s %9s %9s %9s%n",
+        "endpoint", "count", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    for (Endpoint endpoint : Endpoint.values()) {
+      printRow(endpoint.name, samples, endpoint, seconds);
+    }
+    printRow("all", samples, null, seconds);
+  }
+
+  private static void printRow(String label, Sample[] samples, Endpoint endpoint, int seconds) {
+    long[] latencies = new long[samples.length];
+    int count = 0;
+    int errors = 0;
+    int dropped = 0;
+    for (Sample sample : samples) {
+      if (sample == null || (endpoint != null && sample.endpoint() != endpoint)) {
+        continue;
+      }
+      if (sample.latencyNanos() < 0) {
+        dropped++;
+        continue;
+      }
+      if (sample.status() < 200 || sample.status() >= 300) {
+        errors++;
+      }
+      latencies[count++] = sample.latencyNanos();
+    }
+    if (count == 0 && dropped == 0) {
+      return;
+    }
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    System.out.printf("%-14s %8d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+        label, count, errors, dropped, (double) count / seconds,
+        percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+        percentile(sorted, 1.0));
+  }
+
+  private static double percentile(long[] sorted, double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+    return sorted[Math.max(0, index)] / 1_000_000.0;
+  }
+}
@@ -0,0 +1,44 @@
+package com.api.perf.load;
+
+import com.api.perf.support.InMemoryDynamoDbAsyncClient;
+import com.api.perf.support.InMemoryDynamoDbClient;
+import com.api.perf.support.PerfFixtures;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Replaces the AWS clients from {@code AwsConfig} with in-memory stand-ins.
+ *
+ * <p>Deliberately not annotated with {@code @Configuration}: it is registered explicitly by
+ * {@link LoadTest} so component scanning of {@code com.api} never picks it up.
+ */
+public class StandInAwsConfig {
+
+  @Bean
+  @Primary
+  public DynamoDbClient inMemoryDynamoDbClient(
+      @Value("${perf.photos:1000}") int photos, @Value("${perf.dynamo-latency-ms:0}") long latencyMs) {
+    return PerfFixtures.seededDynamoDb(photos).withLatency(Duration.ofMillis(latencyMs));
+  }
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(prefix = "app.aws", name = "dynamo-client-mode", havingValue = "async")
+  public DynamoDbAsyncClient inMemoryDynamoDbAsyncClient(
+      DynamoDbClient inMemoryDynamoDbClient, @Value("${perf.dynamo-latency-ms:0}") long latencyMs) {
+    return new InMemoryDynamoDbAsyncClient(
+        (InMemoryDynamoDbClient) inMemoryDynamoDbClient, Duration.ofMillis(latencyMs));
+  }
+
+  @Bean
+  @Primary
+  public S3Presigner offlineS3Presigner() {
+    return PerfFixtures.offlinePresigner();
+  }
+}
@@ -0,0 +1,61 @@
+package com.api.perf.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+/**
+ * Async stand-in over the tables of an {@link InMemoryDynamoDbClient}, covering the reads the
+ * photo service issues in async mode. Simulated latency is a timer delay, so like the real
+ * async client no thread is held while a call is in flight.
+ */
+public class InMemoryDynamoDbAsyncClient implements DynamoDbAsyncClient {
+
+  private final InMemoryDynamoDbClient tables;
+  private final Executor executor;
+
+  public InMemoryDynamoDbAsyncClient(InMemoryDynamoDbClient tables, Duration latency) {
+    this.tables = tables.withLatency(Duration.ZERO);
+    this.executor = latency.isZero()
+        ? Runnable::run
+        : CompletableFuture.delayedExecutor(latency.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public CompletableFuture<GetItemResponse> getItem(GetItemRequest request) {
+    return call(() -> tables.getItem(request));
+  }
+
+  @Override
+  public CompletableFuture<QueryResponse> query(QueryRequest request) {
+    return call(() -> tables.query(request));
+  }
+
+  @Override
+  public CompletableFuture<ScanResponse> scan(ScanRequest request) {
+    return call(() -> tables.scan(request));
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+
+  private <T> CompletableFuture<T> call(Supplier<T> operation) {
+    return CompletableFuture.supplyAsync(operation, executor);
+  }
+}
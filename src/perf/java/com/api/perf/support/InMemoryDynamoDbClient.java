@@ -0,0 +1,395 @@
+package com.api.perf.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * In-memory stand-in for {@link DynamoDbClient} used by benchmarks and load tests.
+ *
+ * <p>Supports exactly the expression shapes this application issues: projections, equality
+ * filters and key conditions, {@code attribute_exists}/{@code attribute_not_exists} conditions
+ * joined by AND, {@code SET a = :v, ... REMOVE b} updates (optionally returning ALL_NEW), and
+ * unconditional batch gets and writes that never leave unprocessed items. Tables have a single string
+ * partition key; indexes have a string partition key and string sort key.
+ */
+public class InMemoryDynamoDbClient implements DynamoDbClient {
+
+  private static final double READ_UNITS_PER_ITEM = 0.5;
+  private static final double WRITE_UNITS_PER_ITEM = 1.0;
+
+  private record Index(String hashKey, String rangeKey) {}
+
+  private record Table(String hashKey, NavigableMap<String, Map<String, AttributeValue>> items,
+      Map<String, Index> indexes) {}
+
+  private final Map<String, Table> tables;
+  private final long latencyNanos;
+
+  public InMemoryDynamoDbClient() {
+    this(new ConcurrentHashMap<>(), Duration.ZERO);
+  }
+
+  private InMemoryDynamoDbClient(Map<String, Table> tables, Duration latency) {
+    this.tables = tables;
+    this.latencyNanos = latency.toNanos();
+  }
+
+  /**
+   * Returns a client over the same tables that blocks the calling thread for {@code latency}
+   * on every call, standing in for the network round trip of the real client.
+   */
+  public InMemoryDynamoDbClient withLatency(Duration latency) {
+    return new InMemoryDynamoDbClient(tables, latency);
+  }
+
+  /**
+   * Registers a table keyed by a single string partition key.
+   */
+  public InMemoryDynamoDbClient createTable(String tableName, String hashKey) {
+    tables.put(tableName, new Table(hashKey, new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>()));
+    return this;
+  }
+
+  /**
+   * Registers a global secondary index projecting all attributes.
+   */
+  public InMemoryDynamoDbClient createIndex(String tableName, String indexName, String hashKey, String rangeKey) {
+    table(tableName).indexes().put(indexName, new Index(hashKey, rangeKey));
+    return this;
+  }
+
+  /**
+   * Stores an item directly, bypassing conditions.
+   */
+  public void seed(String tableName, Map<String, AttributeValue> item) {
+    Table table = table(tableName);
+    table.items().put(item.get(table.hashKey()).s(), new HashMap<>(item));
+  }
+
+  @Override
+  public GetItemResponse getItem(GetItemRequest request) {
+    simulateLatency();
+    Table table = table(request.tableName());
+    Map<String, AttributeValue> item = table.items().get(request.key().get(table.hashKey()).s());
+    GetItemResponse.Builder response = GetItemResponse.builder()
+        .consumedCapacity(capacity(request.tableName(), request.returnConsumedCapacity(), READ_UNITS_PER_ITEM));
+    if (item != null) {
+      response.item(project(item, request.projectionExpression(), request.expressionAttributeNames()));
+    }
+    return response.build();
+  }
+
+  @Override
+  public PutItemResponse putItem(PutItemRequest request) {
+    simulateLatency();
+    Table table = table(request.tableName());
+    String key = request.item().get(table.hashKey()).s();
+    synchronized (table) {
+      checkCondition(table.items().get(key), request.conditionExpression(),
+          request.expressionAttributeNames(), request.expressionAttributeValues());
+      table.items().put(key, new HashMap<>(request.item()));
+    }
+    return PutItemResponse.builder()
+        .consumedCapacity(capacity(request.tableName(), request.returnConsumedCapacity(), WRITE_UNITS_PER_ITEM))
+        .build();
+  }
+
+  @Override
+  public UpdateItemResponse updateItem(UpdateItemRequest request) {
+    simulateLatency();
+    Table table = table(request.tableName());
+    String key = request.key().get(table.hashKey()).s();
+    Map<String, AttributeValue> updated;
+    synchronized (table) {
+      Map<String, AttributeValue> existing = table.items().get(key);
+      checkCondition(existing, request.conditionExpression(),
+          request.expressionAttributeNames(), request.expressionAttributeValues());
+      updated = existing == null ? new HashMap<>(request.key()) : new HashMap<>(existing);
+      applyUpdate(updated, request.updateExpression(),
+          request.expressionAttributeNames(), request.expressionAttributeValues());
+      table.items().put(key, updated);
+    }
+    UpdateItemResponse.Builder response = UpdateItemResponse.builder()
+        .consumedCapacity(capacity(request.tableName(), request.returnConsumedCapacity(), WRITE_UNITS_PER_ITEM));
+    if (request.returnValues() == ReturnValue.ALL_NEW) {
+      response.attributes(Map.copyOf(updated));
+    }
+    return response.build();
+  }
+
+  @Override
+  public BatchGetItemResponse batchGetItem(BatchGetItemRequest request) {
+    simulateLatency();
+    Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+    request.requestItems().forEach((tableName, keysAndAttributes) -> {
+      Table table = table(tableName);
+      List<Map<String, AttributeValue>> found = new ArrayList<>();
+      for (Map<String, AttributeValue> key : keysAndAttributes.keys()) {
+        Map<String, AttributeValue> item = table.items().get(key.get(table.hashKey()).s());
+        if (item != null) {
+          found.add(project(item, keysAndAttributes.projectionExpression(),
+              keysAndAttributes.expressionAttributeNames()));
+        }
+      }
+      responses.put(tableName, found);
+    });
+    return BatchGetItemResponse.builder().responses(responses).unprocessedKeys(Map.of()).build();
+  }
+
+  @Override
+  public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+    simulateLatency();
+    request.requestItems().forEach((tableName, writes) -> {
+      Table table = table(tableName);
+      synchronized (table) {
+        for (WriteRequest write : writes) {
+          if (write.putRequest() != null) {
+            Map<String, AttributeValue> item = write.putRequest().item();
+            table.items().put(item.get(table.hashKey()).s(), new HashMap<>(item));
+          } else if (write.deleteRequest() != null) {
+            table.items().remove(write.deleteRequest().key().get(table.hashKey()).s());
+          }
+        }
+      }
+    });
+    return BatchWriteItemResponse.builder().unprocessedItems(Map.of()).build();
+  }
+
+  @Override
+  public ScanResponse scan(ScanRequest request) {
+    simulateLatency();
+    Table table = table(request.tableName());
+    NavigableMap<String, Map<String, AttributeValue>> source = table.items();
+    if (request.hasExclusiveStartKey()) {
+      source = source.tailMap(request.exclusiveStartKey().get(table.hashKey()).s(), false);
+    }
+
+    int limit = request.limit() == null ? Integer.MAX_VALUE : request.limit();
+    List<Map<String, AttributeValue>> items = new ArrayList<>();
+    String lastKey = null;
+    int scanned = 0;
+    for (Map.Entry<String, Map<String, AttributeValue>> entry : source.entrySet()) {
+      if (scanned == limit) {
+        break;
+      }
+      scanned++;
+      lastKey = entry.getKey();
+      if (matches(entry.getValue(), request.filterExpression(),
+          request.expressionAttributeNames(), request.expressionAttributeValues())) {
+        items.add(project(entry.getValue(), request.projectionExpression(), request.expressionAttributeNames()));
+      }
+    }
+
+    ScanResponse.Builder response = ScanResponse.builder()
+        .items(items)
+        .count(items.size())
+        .scannedCount(scanned)
+        .consumedCapacity(capacity(request.tableName(), request.returnConsumedCapacity(),
+            scanned * READ_UNITS_PER_ITEM));
+    if (lastKey != null && scanned == limit && source.higherKey(lastKey) != null) {
+      response.lastEvaluatedKey(Map.of(table.hashKey(), AttributeValue.builder().s(lastKey).build()));
+    }
+    return response.build();
+  }
+
+  @Override
+  public QueryResponse query(QueryRequest request) {
+    simulateLatency();
+    Table table = table(request.tableName());
+    Index index = table.indexes().get(request.indexName());
+    if (index == null) {
+      throw ResourceNotFoundException.builder().message("Index not found: " + request.indexName()).build();
+    }
+
+    String[] condition = request.keyConditionExpression().split("=");
+    String hashValue = request.expressionAttributeValues().get(condition[1].trim()).s();
+    Comparator<Map<String, AttributeValue>> order =
+        Comparator.<Map<String, AttributeValue>, String>comparing(item -> item.get(index.rangeKey()).s())
+            .thenComparing(item -> item.get(table.hashKey()).s());
+    if (Boolean.FALSE.equals(request.scanIndexForward())) {
+      order = order.reversed();
+    }
+
+    List<Map<String, AttributeValue>> matching = new ArrayList<>();
+    for (Map<String, AttributeValue> item : table.items().values()) {
+      AttributeValue hash = item.get(index.hashKey());
+      if (hash != null && hashValue.equals(hash.s()) && item.containsKey(index.rangeKey())) {
+        matching.add(item);
+      }
+    }
+    matching.sort(order);
+
+    int start = 0;
+    if (request.hasExclusiveStartKey()) {
+      Map<String, AttributeValue> startKey = request.exclusiveStartKey();
+      while (start < matching.size() && order.compare(matching.get(start), startKey) <= 0) {
+        start++;
+      }
+    }
+    int limit = request.limit() == null ? Integer.MAX_VALUE : request.limit();
+    int end = (int) Math.min(matching.size(), (long) start + limit);
+
+    List<Map<String, AttributeValue>> items = new ArrayList<>(end - start);
+    for (int i = start; i < end; i++) {
+      items.add(project(matching.get(i), request.projectionExpression(), request.expressionAttributeNames()));
+    }
+
+    QueryResponse.Builder response = QueryResponse.builder()
+        .items(items)
+        .count(items.size())
+        .scannedCount(items.size())
+        .consumedCapacity(capacity(request.tableName(), request.returnConsumedCapacity(),
+            Math.max(1, items.size()) * READ_UNITS_PER_ITEM));
+    if (end < matching.size() && end > start) {
+      Map<String, AttributeValue> last = matching.get(end - 1);
+      response.lastEvaluatedKey(Map.of(
+          table.hashKey(), last.get(table.hashKey()),
+          index.hashKey(), last.get(index.hashKey()),
+          index.rangeKey(), last.get(index.rangeKey())));
+    }
+    return response.build();
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+
+  private void simulateLatency() {
+    if (latencyNanos > 0) {
+      LockSupport.parkNanos(latencyNanos);
+    }
+  }
+
+  private Table table(String tableName) {
+    Table table = tables.get(tableName);
+    if (table == null) {
+      throw ResourceNotFoundException.builder().message("Table not found: " + tableName).build();
+    }
+    return table;
+  }
+
+  private static ConsumedCapacity capacity(String tableName, ReturnConsumedCapacity mode, double units) {
+    if (mode == null || mode == ReturnConsumedCapacity.NONE) {
+      return null;
+    }
+    return ConsumedCapacity.builder().tableName(tableName).capacityUnits(units).build();
+  }
+
+  private static String resolve(String name, Map<String, String> names) {
+    String trimmed = name.trim();
+    return trimmed.startsWith("#") ? names.get(trimmed) : trimmed;
+  }
+
+  private static Map<String, AttributeValue> project(
+      Map<String, AttributeValue> item, String projection, Map<String, String> names) {
+    if (projection == null || projection.isBlank()) {
+      return Map.copyOf(item);
+    }
+    Map<String, AttributeValue> projected = new HashMap<>();
+    for (String name : projection.split(",")) {
+      String attribute = resolve(name, names);
+      AttributeValue value = item.get(attribute);
+      if (value != null) {
+        projected.put(attribute, value);
+      }
+    }
+    return projected;
+  }
+
+  /**
+   * Evaluates a conjunction of attribute_exists, attribute_not_exists and equality clauses.
+   */
+  private static boolean matches(
+      Map<String, AttributeValue> item, String expression,
+      Map<String, String> names, Map<String, AttributeValue> values) {
+    if (expression == null || expression.isBlank()) {
+      return true;
+    }
+    for (String clause : expression.split("(?i)\\s+AND\\s+")) {
+      String c = clause.trim();
+      if (c.startsWith("attribute_exists(")) {
+        if (item == null || !item.containsKey(resolve(c.substring(17, c.length() - 1), names))) {
+          return false;
+        }
+      } else if (c.startsWith("attribute_not_exists(")) {
+        if (item != null && item.containsKey(resolve(c.substring(21, c.length() - 1), names))) {
+          return false;
+        }
+      } else {
+        String[] sides = c.split("=");
+        AttributeValue actual = item == null ? null : item.get(resolve(sides[0], names));
+        if (actual == null || !actual.equals(values.get(sides[1].trim()))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static void checkCondition(
+      Map<String, AttributeValue> item, String expression,
+      Map<String, String> names, Map<String, AttributeValue> values) {
+    if (!matches(item, expression, names, values)) {
+      throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+    }
+  }
+
+  private static void applyUpdate(
+      Map<String, AttributeValue> item, String expression,
+      Map<String, String> names, Map<String, AttributeValue> values) {
+    String set = expression;
+    String remove = null;
+    int removeAt = expression.indexOf(" REMOVE ");
+    if (removeAt >= 0) {
+      set = expression.substring(0, removeAt);
+      remove = expression.substring(removeAt + 8);
+    }
+    if (set.startsWith("SET ")) {
+      for (String assignment : set.substring(4).split(",")) {
+        String[] sides = assignment.split("=");
+        item.put(resolve(sides[0], names), values.get(sides[1].trim()));
+      }
+    }
+    if (remove != null) {
+      for (String name : remove.split(",")) {
+        item.remove(resolve(name, names));
+      }
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.api.perf.support;
+
+import com.api.cache.PhotoItemCache;
+import com.api.cache.PhotoPageCache;
+import com.api.cache.SingleFlight;
+import com.api.config.AwsProperties;
+import com.api.config.BulkheadProperties;
+import com.api.config.CircuitBreakerProperties;
+import com.api.config.HealthProperties;
+import com.api.config.HedgeProperties;
+import com.api.config.PhotoProperties;
+import com.api.health.DependencyHealth;
+import com.api.metrics.AwsSdkMetrics;
+import com.api.resilience.Bulkheads;
+import com.api.resilience.Hedger;
+import com.api.service.impl.PhotoServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Shared fixtures for benchmarks and load tests: seeded tables, offline presigner, wired services.
+ */
+public final class PerfFixtures {
+
+  public static final String PHOTO_TABLE = "tbl_photo";
+  public static final String PROFILE_TABLE = "tbl_profile";
+  public static final String LIVE_INDEX = "gsi_live_createdAt";
+
+  // Private constructor to prevent instantiation
+  private PerfFixtures() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Creates the photo and profile tables, seeds {@code photos} photos (every tenth soft-deleted)
+   * and the "main" profile item.
+   */
+  public static InMemoryDynamoDbClient seededDynamoDb(int photos) {
+    InMemoryDynamoDbClient client =
+        new InMemoryDynamoDbClient()
+            .createTable(PHOTO_TABLE, "imageID")
+            .createIndex(PHOTO_TABLE, LIVE_INDEX, "liveKey", "createdAt")
+            .createTable(PROFILE_TABLE, "profileId");
+    for (int i = 0; i < photos; i++) {
+      client.seed(PHOTO_TABLE, photoItem(i, i % 10 == 9));
+    }
+    client.seed(PROFILE_TABLE, profileItem());
+    return client;
+  }
+
+  /**
+   * Builds a photo item shaped like the ones savePhotoMetadata writes, with full EXIF.
+   */
+  public static Map<String, AttributeValue> photoItem(int i, boolean deleted) {
+    String imageId = String.format("img%06d20240115.jpg", i);
+    Map<String, AttributeValue> item = new HashMap<>();
+    item.put("imageID", s(imageId));
+    item.put("fileName", s("DSC_" + i + ".jpg"));
+    item.put("s3Key", s(imageId));
+    item.put("contentType", s("image/jpeg"));
+    item.put("createdAt", s(String.format("2024-01-15T10:%02d:%02dZ", (i / 60) % 60, i % 60)));
+    item.put("sizeBytes", s("4194304"));
+    item.put("isDeleted", AttributeValue.builder().bool(deleted).build());
+    item.put("cloudFront", s("https://cdn.example.com/" + imageId));
+    item.put("title", s("Photo " + i));
+    item.put("description", s("A benchmark photo with a reasonably long description, number " + i));
+    item.put("camera", s("Fujifilm X-T5"));
+    item.put("lens", s("XF 23mm F1.4 R LM WR"));
+    item.put("aperture", s("f/2.8"));
+    item.put("shutter", s("1/250"));
+    item.put("iso", s("400"));
+    item.put("focalLength", s("23mm"));
+    item.put("location", s("Kyoto, Japan"));
+    item.put("dateTaken", s("2024-01-14T08:30:00Z"));
+    if (!deleted) {
+      item.put("liveKey", s("LIVE"));
+    }
+    return item;
+  }
+
+  public static Map<String, AttributeValue> profileItem() {
+    Map<String, AttributeValue> item = new HashMap<>();
+    item.put("profileId", s("main"));
+    item.put("github", s("https://github.com/example"));
+    item.put("linkedin", s("https://linkedin.com/in/example"));
+    item.put("siteMessage", s("Welcome to the gallery."));
+    item.put("updatedAt", s("2024-01-15T10:30:00Z"));
+    return item;
+  }
+
+  public static AwsProperties awsProperties() {
+    AwsProperties properties = new AwsProperties();
+    properties.setPhotoTable(PHOTO_TABLE);
+    properties.setProfileTable(PROFILE_TABLE);
+    properties.setPhotosCloudFront("https://cdn.example.com/");
+    properties.setAssetsCloudFront("https://cdn.example.com/");
+    return properties;
+  }
+
+  /**
+   * Photo settings with both in-memory caches disabled, so every call reaches the client.
+   */
+  public static PhotoProperties uncachedPhotoProperties() {
+    PhotoProperties properties = new PhotoProperties();
+    properties.setLiveIndexName(LIVE_INDEX);
+    properties.getPageCache().setEnabled(false);
+    properties.getItemCache().setEnabled(false);
+    return properties;
+  }
+
+  /**
+   * A real presigner with dummy static credentials. Presigning is purely local, so no AWS call is made.
+   */
+  public static S3Presigner offlinePresigner() {
+    return S3Presigner.builder()
+        .region(Region.US_EAST_1)
+        .credentialsProvider(
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("AKIDEXAMPLE", "secret")))
+        .build();
+  }
+
+  public static PhotoServiceImpl photoService(
+      DynamoDbClient dynamoDbClient, S3Presigner s3Presigner, PhotoProperties photoProperties) {
+    return photoService(dynamoDbClient, null, s3Presigner, photoProperties);
+  }
+
+  /**
+   * Wires a photo service; a non-null async client switches the read paths to async mode.
+   */
+  public static PhotoServiceImpl photoService(
+      DynamoDbClient dynamoDbClient,
+      DynamoDbAsyncClient dynamoDbAsyncClient,
+      S3Presigner s3Presigner,
+      PhotoProperties photoProperties) {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    return new PhotoServiceImpl(
+        dynamoDbClient,
+        dynamoDbAsyncClient,
+        s3Presigner,
+        awsProperties(),
+        photoProperties,
+        new PhotoPageCache(photoProperties, meterRegistry),
+        new PhotoItemCache(photoProperties, meterRegistry),
+        new SingleFlight(meterRegistry),
+        new Bulkheads(new BulkheadProperties(), meterRegistry),
+        new AwsSdkMetrics(meterRegistry, new DependencyHealth(new HealthProperties(), meterRegistry)),
+        new Hedger(new HedgeProperties(), meterRegistry),
+        new CircuitBreakerProperties(),
+        meterRegistry);
+  }
+
+  private static AttributeValue s(String value) {
+    return AttributeValue.builder().s(value).build();
+  }
+}
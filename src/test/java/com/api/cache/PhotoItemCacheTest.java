@@ -0,0 +1,115 @@
+package com.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.config.PhotoProperties;
+import com.api.dto.response.Photo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PhotoItemCacheTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private static PhotoItemCache cache(boolean enabled) {
+    PhotoProperties properties = new PhotoProperties();
+    properties.getItemCache().setEnabled(enabled);
+    return new PhotoItemCache(properties, new SimpleMeterRegistry());
+  }
+
+  private Photo load(String imageId) {
+    loads.incrementAndGet();
+    return new Photo(imageId, "file.jpg", null, "title " + loads.get(), null, null, null, null, null, null, null,
+        null, null, null);
+  }
+
+  private Photo missing(String imageId) {
+    loads.incrementAndGet();
+    return null;
+  }
+
+  @Test
+  void cachesLoadedPhoto() {
+    PhotoItemCache cache = cache(true);
+
+    Photo first = cache.get("a", this::load);
+    Photo second = cache.get("a", this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void doesNotCacheMissingPhoto() {
+    PhotoItemCache cache = cache(true);
+
+    assertThat(cache.get("a", this::missing)).isNull();
+    assertThat(cache.get("a", this::missing)).isNull();
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void invalidateEvictsPhoto() {
+    PhotoItemCache cache = cache(true);
+    cache.get("a", this::load);
+
+    cache.invalidate("a");
+    cache.get("a", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void doesNotCachePhotoLoadedAcrossInvalidation() {
+    PhotoItemCache cache = cache(true);
+
+    // The photo is updated while it is being read, so the read may predate the update
+    Photo stale = cache.get("a", id -> {
+      Photo photo = load(id);
+      cache.invalidate(id);
+      return photo;
+    });
+    Photo next = cache.get("a", this::load);
+
+    assertThat(next).isNotSameAs(stale);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void asyncDoesNotCachePhotoLoadedAcrossInvalidation() {
+    PhotoItemCache cache = cache(true);
+    CompletableFuture<Photo> pending = new CompletableFuture<>();
+
+    CompletableFuture<Photo> result = cache.getAsync("a", id -> pending);
+    cache.invalidate("a");
+    pending.complete(load("a"));
+
+    assertThat(result.join().imageID()).isEqualTo("a");
+    cache.getAsync("a", id -> CompletableFuture.completedFuture(load(id))).join();
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void asyncCachesCompletedPhoto() {
+    PhotoItemCache cache = cache(true);
+
+    Photo first = cache.getAsync("a", id -> CompletableFuture.completedFuture(load(id))).join();
+    Photo second = cache.getAsync("a", id -> CompletableFuture.completedFuture(load(id))).join();
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void disabledCacheAlwaysLoads() {
+    PhotoItemCache cache = cache(false);
+
+    cache.get("a", this::load);
+    cache.get("a", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+}
@@ -0,0 +1,111 @@
+package com.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.common.ApiResponse;
+import com.api.config.PhotoProperties;
+import com.api.dto.response.PhotoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PhotoPageCacheTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private static PhotoPageCache cache(boolean enabled) {
+    PhotoProperties properties = new PhotoProperties();
+    properties.getPageCache().setEnabled(enabled);
+    return new PhotoPageCache(properties, new SimpleMeterRegistry());
+  }
+
+  private PhotoResponse load() {
+    int n = loads.incrementAndGet();
+    return new PhotoResponse(new ApiResponse("success", 200, "page " + n, null, null), "next" + n, true);
+  }
+
+  @Test
+  void cachesLoadedPage() {
+    PhotoPageCache cache = cache(true);
+
+    PhotoResponse first = cache.get(null, 10, this::load);
+    PhotoResponse second = cache.get("", 10, this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void keysOnCursorAndPageSize() {
+    PhotoPageCache cache = cache(true);
+
+    cache.get(null, 10, this::load);
+    cache.get(null, 20, this::load);
+    cache.get("abc", 10, this::load);
+
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void invalidateAllDropsPages() {
+    PhotoPageCache cache = cache(true);
+    cache.get(null, 10, this::load);
+
+    cache.invalidateAll();
+    cache.get(null, 10, this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void doesNotCachePageLoadedAcrossInvalidation() {
+    PhotoPageCache cache = cache(true);
+
+    // A write lands while the page is being read, so the read may predate it
+    PhotoResponse stale = cache.get(null, 10, () -> {
+      PhotoResponse page = load();
+      cache.invalidateAll();
+      return page;
+    });
+    PhotoResponse next = cache.get(null, 10, this::load);
+
+    assertThat(next).isNotSameAs(stale);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void asyncDoesNotCachePageLoadedAcrossInvalidation() {
+    PhotoPageCache cache = cache(true);
+    CompletableFuture<PhotoResponse> pending = new CompletableFuture<>();
+
+    CompletableFuture<PhotoResponse> result = cache.getAsync(null, 10, () -> pending);
+    cache.invalidateAll();
+    pending.complete(load());
+
+    assertThat(result.join().apiResponse().message()).isEqualTo("page 1");
+    cache.getAsync(null, 10, () -> CompletableFuture.completedFuture(load())).join();
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void asyncCachesCompletedPage() {
+    PhotoPageCache cache = cache(true);
+
+    PhotoResponse first = cache.getAsync(null, 10, () -> CompletableFuture.completedFuture(load())).join();
+    PhotoResponse second = cache.getAsync(null, 10, () -> CompletableFuture.completedFuture(load())).join();
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void disabledCacheAlwaysLoads() {
+    PhotoPageCache cache = cache(false);
+
+    cache.get(null, 10, this::load);
+    cache.get(null, 10, this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+}
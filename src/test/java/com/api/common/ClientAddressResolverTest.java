@@ -0,0 +1,73 @@
+package com.api.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.api.config.RateLimitProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientAddressResolverTest {
+
+  private static ClientAddressResolver resolver(String header, String... trustedProxies) {
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setClientIpHeader(header);
+    properties.setTrustedProxies(List.of(trustedProxies));
+    return new ClientAddressResolver(properties);
+  }
+
+  private static MockHttpServletRequest request(String remoteAddr, String clientIp) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(remoteAddr);
+    if (clientIp != null) {
+      request.addHeader("CF-Connecting-IP", clientIp);
+    }
+    return request;
+  }
+
+  @Test
+  void usesRemoteAddressByDefault() {
+    ClientAddressResolver resolver = new ClientAddressResolver(new RateLimitProperties());
+
+    assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+  }
+
+  @Test
+  void ignoresHeaderWithoutTrustedProxies() {
+    ClientAddressResolver resolver = resolver("CF-Connecting-IP");
+
+    assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+  }
+
+  @Test
+  void ignoresHeaderFromUntrustedConnection() {
+    ClientAddressResolver resolver = resolver("CF-Connecting-IP", "173.245.48.0/20");
+
+    assertThat(resolver.resolve(request("173.245.64.1", "198.51.100.1"))).isEqualTo("173.245.64.1");
+  }
+
+  @Test
+  void usesHeaderFromTrustedProxy() {
+    ClientAddressResolver resolver = resolver("CF-Connecting-IP", "173.245.48.0/20", "2400:cb00::/32");
+
+    assertThat(resolver.resolve(request("173.245.63.254", "198.51.100.1"))).isEqualTo("198.51.100.1");
+    assertThat(resolver.resolve(request("2400:cb00:2049:1::a29f:1a01", "2001:db8::1")))
+        .isEqualTo("2001:db8::1");
+    // The nearest proxy appends its view of the client last
+    assertThat(resolver.resolve(request("173.245.48.1", "10.0.0.1, 198.51.100.2"))).isEqualTo("198.51.100.2");
+  }
+
+  @Test
+  void fallsBackToRemoteAddressWhenTrustedProxyOmitsHeader() {
+    ClientAddressResolver resolver = resolver("CF-Connecting-IP", "10.0.0.5");
+
+    assertThat(resolver.resolve(request("10.0.0.5", null))).isEqualTo("10.0.0.5");
+  }
+
+  @Test
+  void rejectsMalformedTrustedProxy() {
+    assertThatThrownBy(() -> resolver("CF-Connecting-IP", "10.0.0.0/33"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,91 @@
+package com.api.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.api.metrics.EndpointContext;
+import com.api.metrics.ServerTiming;
+import com.api.resilience.RequestDeadline;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestContextTest {
+
+  private final RequestDeadline deadline = mock(RequestDeadline.class);
+  private final ServerTiming timing = new ServerTiming();
+
+  private void bindRequest() {
+    RequestDeadline.swap(deadline);
+    EndpointContext.swap("GET /v1/images");
+    ServerTiming.swap(timing);
+  }
+
+  @AfterEach
+  void clearThread() {
+    RequestDeadline.swap(null);
+    EndpointContext.swap(null);
+    ServerTiming.swap(null);
+  }
+
+  private record Seen(RequestDeadline deadline, String endpoint, ServerTiming timing) {
+    static Seen now() {
+      return new Seen(RequestDeadline.current(), EndpointContext.current(), ServerTiming.current());
+    }
+  }
+
+  @Test
+  void threadsDoNotInheritRequestContext() throws InterruptedException {
+    bindRequest();
+    AtomicReference<Seen> seen = new AtomicReference<>();
+
+    Thread worker = new Thread(() -> seen.set(Seen.now()));
+    worker.start();
+    worker.join();
+
+    assertThat(seen.get()).isEqualTo(new Seen(null, EndpointContext.NONE, null));
+  }
+
+  @Test
+  void callBindsCapturedContextOnAnotherThread() {
+    bindRequest();
+    RequestContext context = RequestContext.capture();
+
+    try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+      Seen during = CompletableFuture.supplyAsync(context.wrap(Seen::now), executor).join();
+      Seen after = CompletableFuture.supplyAsync(Seen::now, executor).join();
+
+      assertThat(during).isEqualTo(new Seen(deadline, "GET /v1/images", timing));
+      // The pooled thread is left as it was, ready for the next request's work
+      assertThat(after).isEqualTo(new Seen(null, EndpointContext.NONE, null));
+    }
+  }
+
+  @Test
+  void callRestoresThreadsOwnContext() {
+    RequestContext empty = RequestContext.capture();
+    bindRequest();
+
+    Seen during = empty.call(Seen::now);
+
+    assertThat(during).isEqualTo(new Seen(null, EndpointContext.NONE, null));
+    assertThat(Seen.now()).isEqualTo(new Seen(deadline, "GET /v1/images", timing));
+  }
+
+  @Test
+  void callRestoresContextWhenWorkFails() {
+    bindRequest();
+    RequestContext context = RequestContext.capture();
+    clearThread();
+
+    assertThatThrownBy(() -> context.call(() -> {
+      throw new IllegalStateException("failed");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(Seen.now()).isEqualTo(new Seen(null, EndpointContext.NONE, null));
+  }
+}
@@ -0,0 +1,139 @@
+package com.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private AdaptiveConcurrencyLimiter limiter() {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(10);
+    properties.setMinLimit(5);
+    properties.setMaxLimit(100);
+    properties.setTolerance(2.0);
+    properties.setSmoothing(0.2);
+    properties.setReadShare(0.5);
+    return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+  }
+
+  /**
+   * Fills the limit with writes, then completes one of them with the given latency.
+   */
+  private static void sample(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+    while (limiter.tryAcquire(true)) {
+      // Keep the limit fully used so every sample counts
+    }
+    limiter.release(latencyNanos, true);
+  }
+
+  private double shed(String priority) {
+    return meterRegistry.get("concurrency.shed").tag("priority", priority).counter().count();
+  }
+
+  @Test
+  void readsOnlyUseTheirShareOfTheLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(false)).isTrue();
+    }
+    assertThat(limiter.tryAcquire(false)).isFalse();
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(true)).isTrue();
+    }
+    assertThat(limiter.tryAcquire(true)).isFalse();
+
+    assertThat(shed("read")).isEqualTo(1);
+    assertThat(shed("write")).isEqualTo(1);
+    assertThat(meterRegistry.get("concurrency.inflight").gauge().value()).isEqualTo(10);
+  }
+
+  @Test
+  void releaseFreesASlot() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+    for (int i = 0; i < 10; i++) {
+      limiter.tryAcquire(true);
+    }
+    assertThat(limiter.tryAcquire(true)).isFalse();
+
+    limiter.release(FAST, false);
+
+    assertThat(limiter.tryAcquire(true)).isTrue();
+  }
+
+  @Test
+  void growsWhileLatencyIsSteady() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+
+    for (int i = 0; i < 20; i++) {
+      sample(limiter, FAST);
+    }
+
+    assertThat(limiter.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  void doesNotGrowWhileMostlyIdle() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+
+    for (int i = 0; i < 50; i++) {
+      limiter.tryAcquire(true);
+      limiter.release(FAST, true);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void shrinksWhenLatencyRisesAboveBaseline() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+    for (int i = 0; i < 50; i++) {
+      sample(limiter, FAST);
+    }
+    int before = limiter.getLimit();
+
+    for (int i = 0; i < 20; i++) {
+      sample(limiter, SLOW);
+    }
+
+    assertThat(limiter.getLimit()).isLessThan(before);
+  }
+
+  @Test
+  void staysWithinBounds() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+
+    for (int i = 0; i < 2000; i++) {
+      sample(limiter, FAST);
+    }
+    assertThat(limiter.getLimit()).isEqualTo(100);
+
+    for (int i = 0; i < 100; i++) {
+      sample(limiter, SLOW * 100);
+    }
+    assertThat(limiter.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void unsampledReleasesLeaveTheLimitAlone() {
+    AdaptiveConcurrencyLimiter limiter = limiter();
+
+    for (int i = 0; i < 20; i++) {
+      while (limiter.tryAcquire(true)) {
+        // Fill the limit
+      }
+      limiter.release(FAST, false);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+}
@@ -0,0 +1,149 @@
+package com.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.api.config.BulkheadProperties;
+import com.api.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Runs a real DynamoDB client, with the breaker and bulkhead registered as in AwsConfig, against
+ * a stub HTTP client.
+ */
+class CircuitBreakerInterceptorTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger status = new AtomicInteger(200);
+  private final AtomicInteger sent = new AtomicInteger();
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker("dynamodb", breakerSettings(), meterRegistry);
+  private final Bulkhead bulkhead = new Bulkhead("dynamodb", bulkheadSettings(), meterRegistry);
+  private final DynamoDbClient client =
+      DynamoDbClient.builder()
+          .region(Region.US_EAST_1)
+          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("AKIDEXAMPLE", "secret")))
+          .httpClient(new StubHttpClient())
+          .overrideConfiguration(
+              config -> config
+                  .retryPolicy(RetryPolicy.none())
+                  .addExecutionInterceptor(new CircuitBreakerInterceptor(circuitBreaker))
+                  .addExecutionInterceptor(new BulkheadInterceptor(bulkhead, circuitBreaker)))
+          .build();
+
+  private static CircuitBreakerProperties.Settings breakerSettings() {
+    CircuitBreakerProperties.Settings settings = new CircuitBreakerProperties.Settings();
+    settings.setWindowSize(4);
+    settings.setMinimumCalls(2);
+    settings.setFailureRateThreshold(50);
+    // Half-open as soon as it is next asked
+    settings.setOpenDuration(Duration.ZERO);
+    settings.setHalfOpenCalls(1);
+    return settings;
+  }
+
+  private static BulkheadProperties.Settings bulkheadSettings() {
+    BulkheadProperties.Settings settings = new BulkheadProperties().getDynamodb();
+    settings.setMaxConcurrent(1);
+    settings.setMaxWait(Duration.ZERO);
+    return settings;
+  }
+
+  @AfterEach
+  void closeClient() {
+    client.close();
+  }
+
+  private void openBreaker() {
+    status.set(500);
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(client::listTables).isInstanceOf(AwsServiceException.class);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    status.set(200);
+  }
+
+  @Test
+  void bulkheadRejectionReturnsHalfOpenTrialSlot() {
+    openBreaker();
+    bulkhead.acquire();
+
+    // Each call takes the only trial slot and is then turned away by the full bulkhead
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(client::listTables).isInstanceOf(BulkheadFullException.class);
+    }
+    bulkhead.release();
+
+    client.listTables();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void openBreakerRejectsWithoutTakingBulkheadSlot() {
+    openBreaker();
+    // Take the only trial slot so the next call is rejected
+    circuitBreaker.acquirePermission();
+
+    assertThatThrownBy(client::listTables).isInstanceOf(CircuitBreakerOpenException.class);
+    circuitBreaker.release();
+
+    // The bulkhead's only slot is still free
+    client.listTables();
+    assertThat(sent).hasValue(3);
+  }
+
+  @Test
+  void failedCallsReleaseBulkheadSlot() {
+    openBreaker();
+
+    client.listTables();
+
+    assertThat(sent).hasValue(3);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  private final class StubHttpClient implements SdkHttpClient {
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+      return new ExecutableHttpRequest() {
+        @Override
+        public HttpExecuteResponse call() {
+          sent.incrementAndGet();
+          byte[] body = (status.get() == 200 ? "{}" : "{\"__type\":\"InternalServerError\"}")
+              .getBytes(StandardCharsets.UTF_8);
+          return HttpExecuteResponse.builder()
+              .response(SdkHttpResponse.builder().statusCode(status.get()).build())
+              .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body)))
+              .build();
+        }
+
+        @Override
+        public void abort() {
+        }
+      };
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
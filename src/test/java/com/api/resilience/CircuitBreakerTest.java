@@ -0,0 +1,213 @@
+package com.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.api.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+class CircuitBreakerTest {
+
+  private static final long FAST = 1_000_000L;
+  private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private static CircuitBreakerProperties.Settings settings(Duration openDuration) {
+    CircuitBreakerProperties.Settings settings = new CircuitBreakerProperties.Settings();
+    settings.setWindowSize(10);
+    settings.setMinimumCalls(4);
+    settings.setFailureRateThreshold(50);
+    settings.setSlowCallDuration(Duration.ofSeconds(1));
+    settings.setSlowCallRateThreshold(80);
+    settings.setOpenDuration(openDuration);
+    settings.setHalfOpenCalls(2);
+    return settings;
+  }
+
+  private CircuitBreaker breaker(Duration openDuration) {
+    return new CircuitBreaker("test", settings(openDuration), meterRegistry);
+  }
+
+  private static void call(CircuitBreaker breaker, boolean failure, long durationNanos) {
+    breaker.acquirePermission();
+    if (failure) {
+      breaker.onFailure(durationNanos);
+    } else {
+      breaker.onSuccess(durationNanos);
+    }
+  }
+
+  @Test
+  void staysClosedUntilMinimumCallsAreRecorded() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+    call(breaker, true, FAST);
+    call(breaker, true, FAST);
+    call(breaker, true, FAST);
+
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void opensWhenFailureRateReachesThreshold() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+    call(breaker, false, FAST);
+    call(breaker, false, FAST);
+    call(breaker, true, FAST);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    call(breaker, true, FAST);
+
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  void opensWhenSlowCallRateReachesThreshold() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+    for (int i = 0; i < 4; i++) {
+      call(breaker, false, SLOW);
+    }
+
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  void oldOutcomesLeaveTheWindow() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+    for (int i = 0; i < 6; i++) {
+      call(breaker, false, FAST);
+    }
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true, FAST);
+    }
+    // Ten newer successes push all four failures out of the window
+    for (int i = 0; i < 10; i++) {
+      call(breaker, false, FAST);
+    }
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true, FAST);
+    }
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    // The fifth failure replaces a success: 5 of 10
+    call(breaker, true, FAST);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  void rejectsCallsWhileOpen() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true, FAST);
+    }
+
+    assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+    assertThat(meterRegistry.get("circuitbreaker.calls").tag("result", "rejected").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("circuitbreaker.state").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void halfOpenClosesAfterAllTrialCallsSucceed() {
+    CircuitBreaker breaker = breaker(Duration.ZERO);
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true, FAST);
+    }
+
+    breaker.acquirePermission();
+    breaker.acquirePermission();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    // Both trial slots are taken
+    assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+
+    breaker.onSuccess(FAST);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    breaker.onSuccess(FAST);
+
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    // The window starts empty again
+    call(breaker, true, FAST);
+    call(breaker, true, FAST);
+    call(breaker, true, FAST);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void halfOpenReopensOnAnyTrialFailure() {
+    CircuitBreaker breaker = breaker(Duration.ofMillis(500));
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true, FAST);
+    }
+    awaitOpenDuration();
+
+    breaker.acquirePermission();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    breaker.onFailure(FAST);
+
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+  }
+
+  @Test
+  void releaseReturnsTrialSlot() {
+    CircuitBreaker breaker = breaker(Duration.ZERO);
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true, FAST);
+    }
+
+    breaker.acquirePermission();
+    breaker.acquirePermission();
+    breaker.release();
+
+    breaker.acquirePermission();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+  }
+
+  @Test
+  void disabledBreakerNeverOpens() {
+    CircuitBreakerProperties.Settings settings = settings(Duration.ofMinutes(1));
+    settings.setEnabled(false);
+    CircuitBreaker breaker = new CircuitBreaker("test", settings, meterRegistry);
+
+    for (int i = 0; i < 20; i++) {
+      call(breaker, true, SLOW);
+    }
+
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void classifiesDependencyFailures() {
+    assertThat(CircuitBreaker.isDependencyFailure(serviceError(500, null))).isTrue();
+    assertThat(CircuitBreaker.isDependencyFailure(serviceError(400, "ThrottlingException"))).isTrue();
+    assertThat(CircuitBreaker.isDependencyFailure(serviceError(400, "ConditionalCheckFailedException"))).isFalse();
+    assertThat(CircuitBreaker.isDependencyFailure(SdkClientException.create("timeout"))).isTrue();
+    assertThat(CircuitBreaker.isDependencyFailure(AbortedException.create("cancelled"))).isFalse();
+    assertThat(CircuitBreaker.isDependencyFailure(new IllegalStateException())).isFalse();
+  }
+
+  private static AwsServiceException serviceError(int status, String errorCode) {
+    return AwsServiceException.builder()
+        .statusCode(status)
+        .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+        .build();
+  }
+
+  private static void awaitOpenDuration() {
+    try {
+      Thread.sleep(600);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
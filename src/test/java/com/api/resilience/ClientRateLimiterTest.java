@@ -0,0 +1,79 @@
+package com.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ClientRateLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ClientRateLimiter limiter(double requestsPerSecond, int burst) {
+    return new ClientRateLimiter("test", requestsPerSecond, burst, 1000, Duration.ofMinutes(5), meterRegistry);
+  }
+
+  @Test
+  void allowsBurstThenRejects() {
+    ClientRateLimiter limiter = limiter(1, 3);
+
+    assertThat(limiter.tryAcquire("a")).isZero();
+    assertThat(limiter.tryAcquire("a")).isZero();
+    assertThat(limiter.tryAcquire("a")).isZero();
+    assertThat(limiter.tryAcquire("a")).isPositive();
+    assertThat(meterRegistry.get("ratelimit.rejected").tag("route", "test").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void rejectionReportsTimeUntilNextToken() {
+    ClientRateLimiter limiter = limiter(1, 2);
+    limiter.tryAcquire("a");
+    limiter.tryAcquire("a");
+
+    long wait = limiter.tryAcquire("a");
+
+    assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void rejectedRequestsDoNotTakeTokens() {
+    ClientRateLimiter limiter = limiter(1, 1);
+    limiter.tryAcquire("a");
+
+    long first = limiter.tryAcquire("a");
+    long second = limiter.tryAcquire("a");
+
+    // A refused request does not push the bucket further out
+    assertThat(second).isLessThanOrEqualTo(first);
+  }
+
+  @Test
+  void clientsHaveSeparateBuckets() {
+    ClientRateLimiter limiter = limiter(1, 1);
+
+    assertThat(limiter.tryAcquire("a")).isZero();
+    assertThat(limiter.tryAcquire("a")).isPositive();
+    assertThat(limiter.tryAcquire("b")).isZero();
+    assertThat(meterRegistry.get("ratelimit.clients").tag("route", "test").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void refillsAtConfiguredRate() throws InterruptedException {
+    ClientRateLimiter limiter = limiter(50, 1);
+    assertThat(limiter.tryAcquire("a")).isZero();
+    assertThat(limiter.tryAcquire("a")).isPositive();
+
+    // One interval is 20ms
+    Thread.sleep(40);
+
+    assertThat(limiter.tryAcquire("a")).isZero();
+  }
+
+  @Test
+  void rejectsNonPositiveRate() {
+    assertThatThrownBy(() -> limiter(0, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,45 @@
+package com.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.dto.response.Photo;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class PhotoItemCodecTest {
+
+  @Test
+  void decodesStringAttributes() {
+    Photo photo = PhotoItemCodec.decode(Map.of(
+        PhotoServiceImpl.ATTR_IMAGE_ID, AttributeValue.builder().s("a").build(),
+        PhotoServiceImpl.ATTR_TITLE, AttributeValue.builder().s("Dusk").build()));
+
+    assertThat(photo.imageID()).isEqualTo("a");
+    assertThat(photo.title()).isEqualTo("Dusk");
+    assertThat(photo.camera()).isNull();
+  }
+
+  @Test
+  void decodesNumberAndBooleanAttributesAsText() {
+    Photo photo = PhotoItemCodec.decode(Map.of(
+        PhotoServiceImpl.ATTR_IMAGE_ID, AttributeValue.builder().s("a").build(),
+        PhotoServiceImpl.ATTR_ISO, AttributeValue.builder().n("400").build(),
+        PhotoServiceImpl.ATTR_FOCAL_LENGTH, AttributeValue.builder().n("35.5").build(),
+        PhotoServiceImpl.ATTR_LOCATION, AttributeValue.builder().bool(false).build()));
+
+    assertThat(photo.iso()).isEqualTo("400");
+    assertThat(photo.focalLength()).isEqualTo("35.5");
+    assertThat(photo.location()).isEqualTo("false");
+  }
+
+  @Test
+  void skipsOtherAttributeTypes() {
+    Photo photo = PhotoItemCodec.decode(Map.of(
+        PhotoServiceImpl.ATTR_IMAGE_ID, AttributeValue.builder().s("a").build(),
+        PhotoServiceImpl.ATTR_CAMERA, AttributeValue.builder().ss(List.of("x", "y")).build()));
+
+    assertThat(photo.camera()).isNull();
+  }
+}
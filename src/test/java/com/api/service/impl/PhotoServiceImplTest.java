@@ -0,0 +1,634 @@
+package com.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.cache.PhotoItemCache;
+import com.api.cache.PhotoPageCache;
+import com.api.cache.SingleFlight;
+import com.api.common.ApiResponse;
+import com.api.config.AwsProperties;
+import com.api.config.BulkheadProperties;
+import com.api.config.CircuitBreakerProperties;
+import com.api.config.HealthProperties;
+import com.api.config.HedgeProperties;
+import com.api.config.PhotoProperties;
+import com.api.dto.request.BatchDeletePhotoRequest;
+import com.api.dto.request.BatchPutPhotoRequest;
+import com.api.dto.request.BatchUploadUrlRequest;
+import com.api.dto.request.PutPhotoRequest;
+import com.api.dto.response.Photo;
+import com.api.dto.response.PhotoResponse;
+import com.api.health.DependencyHealth;
+import com.api.metrics.AwsSdkMetrics;
+import com.api.metrics.ServerTiming;
+import com.api.resilience.Bulkheads;
+import com.api.resilience.Hedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+class PhotoServiceImplTest {
+
+  private static final String PHOTO_TABLE = "tbl_photo";
+  private static final String LIVE_INDEX = "gsi_live_createdAt";
+
+  private final DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+  private final S3Presigner presigner = mock(S3Presigner.class);
+  private final PhotoProperties photoProperties = new PhotoProperties();
+  private final HedgeProperties hedgeProperties = new HedgeProperties();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  PhotoServiceImplTest() {
+    photoProperties.setLiveIndexName(LIVE_INDEX);
+    // Caches off so every call reaches the client
+    photoProperties.getPageCache().setEnabled(false);
+    photoProperties.getItemCache().setEnabled(false);
+  }
+
+  @AfterEach
+  void clearThread() {
+    ServerTiming.swap(null);
+  }
+
+  private PhotoServiceImpl service() {
+    AwsProperties awsProperties = new AwsProperties();
+    awsProperties.setPhotoTable(PHOTO_TABLE);
+    awsProperties.setPhotosCloudFront("https://cdn.example.com/");
+    return new PhotoServiceImpl(
+        dynamoDb,
+        null,
+        presigner,
+        awsProperties,
+        photoProperties,
+        new PhotoPageCache(photoProperties, meterRegistry),
+        new PhotoItemCache(photoProperties, meterRegistry),
+        new SingleFlight(meterRegistry),
+        new Bulkheads(new BulkheadProperties(), meterRegistry),
+        new AwsSdkMetrics(meterRegistry, new DependencyHealth(new HealthProperties(), meterRegistry)),
+        new Hedger(hedgeProperties, meterRegistry),
+        new CircuitBreakerProperties(),
+        meterRegistry);
+  }
+
+  private static AttributeValue s(String value) {
+    return AttributeValue.builder().s(value).build();
+  }
+
+  private static Map<String, AttributeValue> photoItem(String imageId) {
+    Map<String, AttributeValue> item = new HashMap<>();
+    item.put(PhotoServiceImpl.ATTR_IMAGE_ID, s(imageId));
+    item.put(PhotoServiceImpl.ATTR_FILE_NAME, s(imageId + ".jpg"));
+    return item;
+  }
+
+  private static List<Map<String, AttributeValue>> photoItems(String... imageIds) {
+    List<Map<String, AttributeValue>> items = new ArrayList<>();
+    for (String imageId : imageIds) {
+      items.add(photoItem(imageId));
+    }
+    return items;
+  }
+
+  private static Map<String, AttributeValue> indexKey(String createdAt, String imageId) {
+    return Map.of(
+        PhotoServiceImpl.ATTR_LIVE, s("LIVE"),
+        PhotoServiceImpl.ATTR_CREATED_AT, s(createdAt),
+        PhotoServiceImpl.ATTR_IMAGE_ID, s(imageId));
+  }
+
+  private static QueryResponse queryResponse(
+      List<Map<String, AttributeValue>> items, Map<String, AttributeValue> lastEvaluatedKey) {
+    QueryResponse.Builder response =
+        QueryResponse.builder().items(items).count(items.size()).scannedCount(items.size());
+    if (lastEvaluatedKey != null) {
+      response.lastEvaluatedKey(lastEvaluatedKey);
+    }
+    return response.build();
+  }
+
+  private static ScanResponse scanResponse(
+      List<Map<String, AttributeValue>> items, int scannedCount, String lastEvaluatedId, double capacityUnits) {
+    ScanResponse.Builder response =
+        ScanResponse.builder()
+            .items(items)
+            .count(items.size())
+            .scannedCount(scannedCount)
+            .consumedCapacity(ConsumedCapacity.builder().tableName(PHOTO_TABLE).capacityUnits(capacityUnits).build());
+    if (lastEvaluatedId != null) {
+      response.lastEvaluatedKey(Map.of(PhotoServiceImpl.ATTR_IMAGE_ID, s(lastEvaluatedId)));
+    }
+    return response.build();
+  }
+
+  private List<ScanRequest> scanRequests(int count) {
+    ArgumentCaptor<ScanRequest> requests = ArgumentCaptor.forClass(ScanRequest.class);
+    verify(dynamoDb, times(count)).scan(requests.capture());
+    return requests.getAllValues();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> imageIds(PhotoResponse page) {
+    return ((List<Photo>) page.apiResponse().data()).stream().map(Photo::imageID).toList();
+  }
+
+  private static String encode(String raw) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // Sparse-index cursor
+
+  @Test
+  void indexModeQueriesLiveIndexNewestFirst() {
+    photoProperties.setListingMode(PhotoProperties.ListingMode.INDEX);
+    when(dynamoDb.query(any(QueryRequest.class))).thenReturn(queryResponse(photoItems("a", "b"), null));
+
+    PhotoResponse page = service().getPhotos(null, 5);
+
+    ArgumentCaptor<QueryRequest> request = ArgumentCaptor.forClass(QueryRequest.class);
+    verify(dynamoDb).query(request.capture());
+    assertThat(request.getValue().indexName()).isEqualTo(LIVE_INDEX);
+    assertThat(request.getValue().scanIndexForward()).isFalse();
+    assertThat(request.getValue().filterExpression()).isNull();
+    assertThat(request.getValue().hasExclusiveStartKey()).isFalse();
+    assertThat(imageIds(page)).containsExactly("a", "b");
+    assertThat(page.lastKey()).isEmpty();
+    assertThat(page.hasMore()).isFalse();
+  }
+
+  @Test
+  void indexCursorIsOpaqueAndUrlSafe() {
+    photoProperties.setListingMode(PhotoProperties.ListingMode.INDEX);
+    when(dynamoDb.query(any(QueryRequest.class)))
+        .thenReturn(queryResponse(photoItems("a", "b"), indexKey("2024-01-15T10:00:00Z", "b/+?")));
+
+    PhotoResponse page = service().getPhotos(null, 2);
+
+    assertThat(page.hasMore()).isTrue();
+    assertThat(page.lastKey()).matches("[A-Za-z0-9_-]+");
+    assertThat(page.lastKey()).isEqualTo(encode("2024-01-15T10:00:00Z|b/+?"));
+  }
+
+  @Test
+  void indexCursorRoundTripsToExclusiveStartKey() {
+    photoProperties.setListingMode(PhotoProperties.ListingMode.INDEX);
+    Map<String, AttributeValue> lastEvaluatedKey = indexKey("2024-01-15T10:00:00Z", "b");
+    when(dynamoDb.query(any(QueryRequest.class)))
+        .thenReturn(queryResponse(photoItems("a", "b"), lastEvaluatedKey))
+        .thenReturn(queryResponse(photoItems("c"), null));
+    PhotoServiceImpl service = service();
+
+    String cursor = service.getPhotos(null, 2).lastKey();
+    PhotoResponse next = service.getPhotos(cursor, 2);
+
+    ArgumentCaptor<QueryRequest> requests = ArgumentCaptor.forClass(QueryRequest.class);
+    verify(dynamoDb, times(2)).query(requests.capture());
+    assertThat(requests.getAllValues().get(1).exclusiveStartKey()).isEqualTo(lastEvaluatedKey);
+    assertThat(imageIds(next)).containsExactly("c");
+  }
+
+  @Test
+  void indexCursorKeepsSeparatorsInImageId() {
+    photoProperties.setListingMode(PhotoProperties.ListingMode.INDEX);
+    when(dynamoDb.query(any(QueryRequest.class))).thenReturn(queryResponse(photoItems(), null));
+
+    service().getPhotos(encode("2024-01-15T10:00:00Z|a|b"), 2);
+
+    ArgumentCaptor<QueryRequest> request = ArgumentCaptor.forClass(QueryRequest.class);
+    verify(dynamoDb).query(request.capture());
+    assertThat(request.getValue().exclusiveStartKey()).isEqualTo(indexKey("2024-01-15T10:00:00Z", "a|b"));
+  }
+
+  @Test
+  void rejectsMalformedIndexCursor() {
+    photoProperties.setListingMode(PhotoProperties.ListingMode.INDEX);
+    PhotoServiceImpl service = service();
+
+    assertThatThrownBy(() -> service.getPhotos("not base64!", 2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> service.getPhotos(encode("no-separator"), 2))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> service.getPhotos(encode("|b"), 2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> service.getPhotos(encode("2024-01-15T10:00:00Z|"), 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // Fill-to-page loop
+
+  @Test
+  void scanKeepsReadingUntilPageIsFull() {
+    when(dynamoDb.scan(any(ScanRequest.class)))
+        .thenReturn(scanResponse(photoItems("a", "b"), 5, "e", 0.5))
+        .thenReturn(scanResponse(photoItems("f", "g", "h"), 5, "j", 0.5));
+
+    PhotoResponse page = service().getPhotos(null, 5);
+
+    List<ScanRequest> requests = scanRequests(2);
+    assertThat(requests.get(0).hasExclusiveStartKey()).isFalse();
+    assertThat(requests.get(1).exclusiveStartKey()).isEqualTo(Map.of(PhotoServiceImpl.ATTR_IMAGE_ID, s("e")));
+    assertThat(imageIds(page)).containsExactly("a", "b", "f", "g", "h");
+    assertThat(page.lastKey()).isEqualTo("j");
+    assertThat(page.hasMore()).isTrue();
+  }
+
+  @Test
+  void hedgedFirstPageCountsOnlyTheWinningRoundTrip() {
+    hedgeProperties.setEnabled(true);
+    hedgeProperties.setMinSamples(1);
+    hedgeProperties.setMinDelay(Duration.ofMillis(20));
+    hedgeProperties.setMaxRate(1);
+    AtomicInteger scans = new AtomicInteger();
+    when(dynamoDb.scan(any(ScanRequest.class)))
+        .thenAnswer(call -> {
+          if (scans.incrementAndGet() == 2) {
+            // The second listing's original round trip is slow and ignores the cancellation
+            long until = System.nanoTime() + Duration.ofMillis(300).toNanos();
+            while (System.nanoTime() < until) {
+              LockSupport.parkNanos(until - System.nanoTime());
+            }
+          }
+          return scanResponse(photoItems("a", "b"), 2, null, 0.5);
+        });
+    PhotoServiceImpl service = service();
+
+    service.getPhotos(null, 5);
+    PhotoResponse page = service.getPhotos(null, 5);
+    // Let the losing round trip finish too
+    LockSupport.parkNanos(Duration.ofMillis(400).toNanos());
+
+    assertThat(imageIds(page)).containsExactly("a", "b");
+    assertThat(meterRegistry.get("hedge.won").tag("name", "photos.first-page").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("photos.listing.requests").summary().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("photos.listing.items.returned").counter().count()).isEqualTo(4);
+  }
+
+  @Test
+  void scanOvershootResumesAfterLastReturnedItem() {
+    when(dynamoDb.scan(any(ScanRequest.class)))
+        .thenReturn(scanResponse(photoItems("a"), 3, "c", 0.5))
+        .thenReturn(scanResponse(photoItems("d", "e", "f", "g"), 3, "g", 0.5));
+
+    PhotoResponse page = service().getPhotos(null, 3);
+
+    scanRequests(2);
+    assertThat(imageIds(page)).containsExactly("a", "d", "e");
+    assertThat(page.lastKey()).isEqualTo("e");
+    assertThat(page.hasMore()).isTrue();
+  }
+
+  @Test
+  void scanStopsAtEndOfTable() {
+    when(dynamoDb.scan(any(ScanRequest.class)))
+        .thenReturn(scanResponse(photoItems("a"), 5, "e", 0.5))
+        .thenReturn(scanResponse(photoItems("f"), 2, null, 0.5));
+
+    PhotoResponse page = service().getPhotos(null, 5);
+
+    scanRequests(2);
+    assertThat(imageIds(page)).containsExactly("a", "f");
+    assertThat(page.lastKey()).isEmpty();
+    assertThat(page.hasMore()).isFalse();
+  }
+
+  @Test
+  void scanStopsAtScannedItemBudget() {
+    photoProperties.setMaxScannedItems(8);
+    photoProperties.setMaxReadCapacity(0);
+    when(dynamoDb.scan(any(ScanRequest.class)))
+        .thenReturn(scanResponse(photoItems(), 5, "e", 0.5))
+        .thenReturn(scanResponse(photoItems("h"), 3, "h", 0.5));
+
+    PhotoResponse page = service().getPhotos(null, 5);
+
+    List<ScanRequest> requests = scanRequests(2);
+    // The last round trip only reads what is left of the budget
+    assertThat(requests.get(0).limit()).isEqualTo(5);
+    assertThat(requests.get(1).limit()).isEqualTo(3);
+    assertThat(imageIds(page)).containsExactly("h");
+    assertThat(page.lastKey()).isEqualTo("h");
+    assertThat(page.hasMore()).isTrue();
+  }
+
+  @Test
+  void scanStopsAtReadCapacityBudget() {
+    photoProperties.setMaxReadCapacity(1);
+    when(dynamoDb.scan(any(ScanRequest.class)))
+        .thenReturn(scanResponse(photoItems("a"), 5, "e", 1.0))
+        .thenReturn(scanResponse(photoItems("f"), 5, "j", 1.0));
+
+    PhotoResponse page = service().getPhotos(null, 5);
+
+    scanRequests(1);
+    assertThat(imageIds(page)).containsExactly("a");
+    assertThat(page.lastKey()).isEqualTo("e");
+    assertThat(page.hasMore()).isTrue();
+  }
+
+  @Test
+  void scanResumesFromLastKey() {
+    when(dynamoDb.scan(any(ScanRequest.class))).thenReturn(scanResponse(photoItems("f"), 1, null, 0.5));
+
+    service().getPhotos("e", 5);
+
+    assertThat(scanRequests(1).get(0).exclusiveStartKey())
+        .isEqualTo(Map.of(PhotoServiceImpl.ATTR_IMAGE_ID, s("e")));
+  }
+
+  @Test
+  void indexModeOnlyAsksForWhatStillFits() {
+    photoProperties.setListingMode(PhotoProperties.ListingMode.INDEX);
+    when(dynamoDb.query(any(QueryRequest.class)))
+        .thenReturn(queryResponse(photoItems("a", "b"), indexKey("2024-01-15T10:00:00Z", "b")))
+        .thenReturn(queryResponse(photoItems("c", "d", "e"), indexKey("2024-01-15T09:00:00Z", "e")));
+
+    PhotoResponse page = service().getPhotos(null, 5);
+
+    ArgumentCaptor<QueryRequest> requests = ArgumentCaptor.forClass(QueryRequest.class);
+    verify(dynamoDb, times(2)).query(requests.capture());
+    assertThat(requests.getAllValues().get(0).limit()).isEqualTo(5);
+    assertThat(requests.getAllValues().get(1).limit()).isEqualTo(3);
+    assertThat(imageIds(page)).containsExactly("a", "b", "c", "d", "e");
+    assertThat(page.lastKey()).isEqualTo(encode("2024-01-15T09:00:00Z|e"));
+    assertThat(page.hasMore()).isTrue();
+  }
+
+  // Batch metadata ingest
+
+  private static BatchPutPhotoRequest batch(String... imageIds) {
+    List<PutPhotoRequest> photos = new ArrayList<>();
+    for (String imageId : imageIds) {
+      photos.add(new PutPhotoRequest(imageId, imageId + ".jpg", "1024"));
+    }
+    return new BatchPutPhotoRequest(photos);
+  }
+
+  private static String savedId(PutItemRequest request) {
+    return request.item().get(PhotoServiceImpl.ATTR_IMAGE_ID).s();
+  }
+
+  private List<PutItemRequest> puts(int count) {
+    ArgumentCaptor<PutItemRequest> requests = ArgumentCaptor.forClass(PutItemRequest.class);
+    verify(dynamoDb, times(count)).putItem(requests.capture());
+    return requests.getAllValues();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> results(ApiResponse response) {
+    return (List<Map<String, Object>>) response.data();
+  }
+
+  @Test
+  void batchPutOnlyCreatesNewItems() {
+    when(dynamoDb.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+    ApiResponse response = service().savePhotoMetadataBatch(batch("a", "b", "c"));
+
+    List<PutItemRequest> puts = puts(3);
+    assertThat(puts).extracting(PhotoServiceImplTest::savedId).containsExactlyInAnyOrder("a", "b", "c");
+    assertThat(puts).allSatisfy(put -> assertThat(put.conditionExpression())
+        .isEqualTo("attribute_not_exists(" + PhotoServiceImpl.ATTR_IMAGE_ID + ")"));
+    assertThat(response.message()).isEqualTo("Saved 3 of 3 photos");
+    assertThat(results(response)).allSatisfy(result -> assertThat(result.get("code")).isEqualTo(200));
+  }
+
+  @Test
+  void batchPutRejectsExistingAndRepeatedIds() {
+    when(dynamoDb.putItem(any(PutItemRequest.class)))
+        .thenAnswer(call -> {
+          // "b" was written by someone else, possibly while this batch was running
+          if (savedId(call.getArgument(0)).equals("b")) {
+            throw ConditionalCheckFailedException.builder().message("exists").build();
+          }
+          return PutItemResponse.builder().build();
+        });
+
+    ApiResponse response = service().savePhotoMetadataBatch(batch("a", "b", "a", "c"));
+
+    assertThat(puts(3)).extracting(PhotoServiceImplTest::savedId).containsExactlyInAnyOrder("a", "b", "c");
+    assertThat(results(response)).extracting(result -> result.get("code")).containsExactly(200, 409, 409, 200);
+    assertThat(results(response).get(1).get("message")).isEqualTo("Image already exists");
+    assertThat(results(response).get(2).get("message")).isEqualTo("Duplicate in request");
+    assertThat(response.message()).isEqualTo("Saved 2 of 4 photos");
+  }
+
+  @Test
+  void batchPutReportsFailedWrites() {
+    when(dynamoDb.putItem(any(PutItemRequest.class)))
+        .thenAnswer(call -> {
+          if (savedId(call.getArgument(0)).equals("b")) {
+            throw SdkClientException.create("timeout");
+          }
+          return PutItemResponse.builder().build();
+        });
+
+    ApiResponse response = service().savePhotoMetadataBatch(batch("a", "b"));
+
+    assertThat(results(response)).extracting(result -> result.get("code")).containsExactly(200, 500);
+    assertThat(results(response).get(1).get("message")).isEqualTo("Save failed");
+    assertThat(response.message()).isEqualTo("Saved 1 of 2 photos");
+  }
+
+  @Test
+  void batchPutBoundsConcurrency() {
+    photoProperties.setBulkSaveConcurrency(2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    when(dynamoDb.putItem(any(PutItemRequest.class)))
+        .thenAnswer(call -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          running.decrementAndGet();
+          return PutItemResponse.builder().build();
+        });
+    String[] imageIds = IntStream.range(0, 10).mapToObj(i -> "img" + i).toArray(String[]::new);
+
+    ApiResponse response = service().savePhotoMetadataBatch(batch(imageIds));
+
+    puts(10);
+    assertThat(maxRunning.get()).isBetween(1, 2);
+    assertThat(response.message()).isEqualTo("Saved 10 of 10 photos");
+  }
+
+  @Test
+  void batchPutRequiresPhotos() {
+    PhotoServiceImpl service = service();
+
+    assertThatThrownBy(() -> service.savePhotoMetadataBatch(new BatchPutPhotoRequest(List.of())))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // Bulk delete
+
+  private static String deletedId(UpdateItemRequest request) {
+    return request.key().get(PhotoServiceImpl.ATTR_IMAGE_ID).s();
+  }
+
+  @Test
+  void bulkDeleteSoftDeletesEachDistinctIdOnce() {
+    when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+
+    ApiResponse response = service().deletePhotos(new BatchDeletePhotoRequest(List.of("a", "b", "a")));
+
+    ArgumentCaptor<UpdateItemRequest> requests = ArgumentCaptor.forClass(UpdateItemRequest.class);
+    verify(dynamoDb, times(2)).updateItem(requests.capture());
+    assertThat(requests.getAllValues()).extracting(PhotoServiceImplTest::deletedId).containsExactlyInAnyOrder("a", "b");
+    // Dropping the live attribute takes the photo out of the sparse index
+    assertThat(requests.getValue().updateExpression()).contains("REMOVE " + PhotoServiceImpl.ATTR_LIVE);
+    assertThat(requests.getValue().conditionExpression())
+        .isEqualTo("attribute_exists(" + PhotoServiceImpl.ATTR_IMAGE_ID + ")");
+    assertThat(results(response)).extracting(result -> result.get("imageID")).containsExactly("a", "b", "a");
+    assertThat(results(response)).extracting(result -> result.get("code")).containsExactly(200, 200, 200);
+    assertThat(response.message()).isEqualTo("Deleted 3 of 3 photos");
+  }
+
+  @Test
+  void bulkDeleteReportsPerItemOutcomes() {
+    when(dynamoDb.updateItem(any(UpdateItemRequest.class)))
+        .thenAnswer(call -> switch (deletedId(call.getArgument(0))) {
+          case "missing" -> throw ConditionalCheckFailedException.builder().message("condition failed").build();
+          case "broken" -> throw SdkClientException.create("connection reset");
+          default -> UpdateItemResponse.builder().build();
+        });
+
+    ApiResponse response = service().deletePhotos(new BatchDeletePhotoRequest(List.of("a", "missing", "broken")));
+
+    assertThat(results(response)).extracting(result -> result.get("code")).containsExactly(200, 404, 500);
+    assertThat(response.message()).isEqualTo("Deleted 1 of 3 photos");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchUploadUrlsAreSignedWithTheRequestsContext() throws Exception {
+    ServerTiming timing = new ServerTiming();
+    ServerTiming.swap(timing);
+    Set<ServerTiming> seen = ConcurrentHashMap.newKeySet();
+    PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+    when(presigned.url()).thenReturn(URI.create("https://bucket.example.com/upload").toURL());
+    when(presigner.presignPutObject(any(Consumer.class)))
+        .thenAnswer(call -> {
+          seen.add(ServerTiming.current());
+          return presigned;
+        });
+
+    ApiResponse response =
+        service().generateUploadUrls(new BatchUploadUrlRequest(null, Map.of("image/jpeg", 40)));
+
+    assertThat((List<?>) response.data()).hasSize(40);
+    assertThat(seen).containsExactly(timing);
+  }
+
+  @Test
+  void bulkDeleteBoundsConcurrency() {
+    photoProperties.setBulkDeleteConcurrency(2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    when(dynamoDb.updateItem(any(UpdateItemRequest.class)))
+        .thenAnswer(call -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          running.decrementAndGet();
+          return UpdateItemResponse.builder().build();
+        });
+    List<String> imageIds = IntStream.range(0, 10).mapToObj(i -> "img" + i).toList();
+
+    ApiResponse response = service().deletePhotos(new BatchDeletePhotoRequest(imageIds));
+
+    verify(dynamoDb, times(10)).updateItem(any(UpdateItemRequest.class));
+    assertThat(maxRunning.get()).isBetween(1, 2);
+    assertThat(response.message()).isEqualTo("Deleted 10 of 10 photos");
+  }
+
+  // liveKey backfill
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void backfillSetsLiveKeyOnLivePhotosWithoutIt() {
+    when(dynamoDb.scan(any(ScanRequest.class))).thenReturn(scanResponse(photoItems("a", "b"), 3, "c", 0.5));
+    when(dynamoDb.updateItem(any(UpdateItemRequest.class)))
+        .thenAnswer(call -> {
+          // "b" was deleted after the scan saw it
+          if (deletedId(call.getArgument(0)).equals("b")) {
+            throw ConditionalCheckFailedException.builder().message("changed").build();
+          }
+          return UpdateItemResponse.builder().build();
+        });
+
+    ApiResponse response = service().backfillLiveKeys("x", 3);
+
+    ScanRequest scan = scanRequests(1).get(0);
+    assertThat(scan.limit()).isEqualTo(3);
+    assertThat(scan.exclusiveStartKey()).isEqualTo(Map.of(PhotoServiceImpl.ATTR_IMAGE_ID, s("x")));
+    assertThat(scan.filterExpression()).contains("attribute_not_exists(" + PhotoServiceImpl.P_LIVE + ")");
+    ArgumentCaptor<UpdateItemRequest> updates = ArgumentCaptor.forClass(UpdateItemRequest.class);
+    verify(dynamoDb, times(2)).updateItem(updates.capture());
+    assertThat(updates.getAllValues()).allSatisfy(update -> {
+      assertThat(update.expressionAttributeValues()).containsEntry(":live", s("LIVE"));
+      assertThat(update.conditionExpression()).contains(PhotoServiceImpl.P_IS_DELETED + " = :notDeleted");
+    });
+    assertThat((Map<String, Object>) response.data())
+        .containsEntry("scanned", 3)
+        .containsEntry("updated", 1)
+        .containsEntry("lastKey", "c")
+        .containsEntry("hasMore", true);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void backfillReportsEndOfTable() {
+    when(dynamoDb.scan(any(ScanRequest.class))).thenReturn(scanResponse(List.of(), 2, null, 0.5));
+
+    ApiResponse response = service().backfillLiveKeys(null, null);
+
+    assertThat(scanRequests(1).get(0).hasExclusiveStartKey()).isFalse();
+    verify(dynamoDb, never()).updateItem(any(UpdateItemRequest.class));
+    assertThat((Map<String, Object>) response.data())
+        .containsEntry("updated", 0)
+        .containsEntry("lastKey", "")
+        .containsEntry("hasMore", false);
+  }
+
+  @Test
+  void bulkDeleteRejectsBlankIdsBeforeDeletingAnything() {
+    PhotoServiceImpl service = service();
+
+    assertThatThrownBy(() -> service.deletePhotos(new BatchDeletePhotoRequest(List.of("a", " "))))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(dynamoDb, never()).updateItem(any(UpdateItemRequest.class));
+  }
+}
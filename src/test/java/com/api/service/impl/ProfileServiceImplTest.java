@@ -0,0 +1,131 @@
+package com.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.cache.SingleFlight;
+import com.api.common.ApiResponse;
+import com.api.config.AwsProperties;
+import com.api.config.BulkheadProperties;
+import com.api.config.HealthProperties;
+import com.api.config.HedgeProperties;
+import com.api.config.ProfileProperties;
+import com.api.dto.request.SiteMessageRequest;
+import com.api.health.DependencyHealth;
+import com.api.metrics.AwsSdkMetrics;
+import com.api.resilience.Bulkheads;
+import com.api.resilience.Hedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+class ProfileServiceImplTest {
+
+  private final DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+  private final ProfileProperties profileProperties = new ProfileProperties();
+
+  private ProfileServiceImpl service() {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AwsProperties awsProperties = new AwsProperties();
+    awsProperties.setProfileTable("tbl_profile");
+    return new ProfileServiceImpl(
+        dynamoDb,
+        mock(S3Presigner.class),
+        awsProperties,
+        profileProperties,
+        new SingleFlight(meterRegistry),
+        new Bulkheads(new BulkheadProperties(), meterRegistry),
+        new AwsSdkMetrics(meterRegistry, new DependencyHealth(new HealthProperties(), meterRegistry)),
+        new Hedger(new HedgeProperties(), meterRegistry));
+  }
+
+  private static Map<String, AttributeValue> profileItem(String message) {
+    return Map.of(
+        "profileId", AttributeValue.builder().s("main").build(),
+        "siteMessage", AttributeValue.builder().s(message).build());
+  }
+
+  private static GetItemResponse read(String message) {
+    return GetItemResponse.builder().item(profileItem(message)).build();
+  }
+
+  private static UpdateItemResponse written(String message) {
+    return UpdateItemResponse.builder().attributes(profileItem(message)).build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String message(ApiResponse response) {
+    return ((Map<String, String>) response.data()).get("message");
+  }
+
+  @Test
+  void servesSnapshotWithinTtl() {
+    when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(read("hello"));
+    ProfileServiceImpl service = service();
+
+    assertThat(message(service.getSiteMessage())).isEqualTo("hello");
+    assertThat(message(service.getSiteMessage())).isEqualTo("hello");
+
+    verify(dynamoDb, times(1)).getItem(any(GetItemRequest.class));
+  }
+
+  @Test
+  void writeReplacesSnapshotWithoutRereading() {
+    when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(read("hello"));
+    when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(written("updated"));
+    ProfileServiceImpl service = service();
+
+    service.saveSiteMessage(new SiteMessageRequest("updated"));
+
+    assertThat(message(service.getSiteMessage())).isEqualTo("updated");
+    verify(dynamoDb, never()).getItem(any(GetItemRequest.class));
+  }
+
+  @Test
+  void readOverlappingWriteDoesNotReplaceWrittenSnapshot() {
+    when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(written("updated"));
+    ProfileServiceImpl service = service();
+    // The write lands while the GetItem is in flight, so the read may predate it
+    when(dynamoDb.getItem(any(GetItemRequest.class)))
+        .thenAnswer(call -> {
+          service.saveSiteMessage(new SiteMessageRequest("updated"));
+          return read("before");
+        });
+
+    ApiResponse overlapping = service.getSiteMessage();
+
+    assertThat(message(overlapping)).isEqualTo("updated");
+    assertThat(message(service.getSiteMessage())).isEqualTo("updated");
+    verify(dynamoDb, times(1)).getItem(any(GetItemRequest.class));
+  }
+
+  @Test
+  void servesExpiredSnapshotAsStaleWhileDynamoDbIsUnavailable() {
+    profileProperties.setSnapshotTtl(Duration.ZERO);
+    when(dynamoDb.getItem(any(GetItemRequest.class)))
+        .thenReturn(read("hello"))
+        .thenThrow(SdkClientException.create("connection refused"));
+    ProfileServiceImpl service = service();
+    service.getSiteMessage();
+
+    ApiResponse response = service.getSiteMessage();
+
+    assertThat(message(response)).isEqualTo("hello");
+    assertThat(response.stale()).isTrue();
+  }
+}